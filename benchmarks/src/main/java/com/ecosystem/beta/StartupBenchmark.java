@@ -0,0 +1,86 @@
+package com.ecosystem.beta;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class StartupBenchmark {
+
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path target = Path.of(args.length > 0 ? args[0] : "../target").toAbsolutePath().normalize();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+        report("default", runs, target, List.of(java, "-jar", "service-beta-1.0.0-SNAPSHOT-exec.jar"));
+        report("fast-startup", runs, target.resolve("fast-startup"), List.of(java,
+                "-XX:SharedArchiveFile=service-beta.jsa", "-Xlog:cds=error", "-Dspring.aot.enabled=true",
+                "-jar", "service-beta.jar", "--spring.profiles.active=fast-startup"));
+    }
+
+    private static void report(String mode, int runs, Path directory, List<String> command) throws Exception {
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            samples[i] = timeToFirstRequest(directory, command);
+        }
+        Arrays.sort(samples);
+        System.out.printf("%-12s time to first successful request: median %d ms, min %d ms, max %d ms%n",
+                mode, samples[runs / 2], samples[0], samples[runs - 1]);
+    }
+
+    private static long timeToFirstRequest(Path directory, List<String> command) throws Exception {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add("--server.port=" + port);
+        arguments.add("--logging.level.root=WARN");
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/orders?limit=1"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(arguments)
+                .directory(directory.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Service exited with code " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new IllegalStateException("Service did not answer within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
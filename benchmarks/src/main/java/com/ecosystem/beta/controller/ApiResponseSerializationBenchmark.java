@@ -0,0 +1,112 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final Type ORDER_LIST = new ParameterizedTypeReference<ApiResponse<List<OrderDto>>>() {}.getType();
+
+    @Param({"1", "100", "1000"})
+    public int size;
+
+    private ObjectWriter writer;
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+    private OrderResponseHttpMessageConverter orderConverter;
+    private ReusableOutputMessage outputMessage;
+    private ApiResponse<List<OrderDto>> response;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = objectMapper.writer();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        orderConverter = new OrderResponseHttpMessageConverter(objectMapper);
+        outputMessage = new ReusableOutputMessage();
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        List<OrderDto> orders = LongStream.rangeClosed(1, size)
+                .mapToObj(id -> new OrderDto(id, id % 100, "Product " + id, 2, new BigDecimal("1500.00"), "PENDING",
+                        now, now, null))
+                .toList();
+        response = ApiResponse.ok(orders);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public int jacksonConverter() throws IOException {
+        outputMessage.reset();
+        jacksonConverter.write(response, ORDER_LIST, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.body.size();
+    }
+
+    @Benchmark
+    public int orderConverter() throws IOException {
+        outputMessage.reset();
+        orderConverter.write(response, ORDER_LIST, MediaType.APPLICATION_JSON, outputMessage);
+        return outputMessage.body.size();
+    }
+
+    private static final class ReusableOutputMessage implements HttpOutputMessage {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(256 * 1024);
+        private HttpHeaders headers = new HttpHeaders();
+
+        void reset() {
+            body.reset();
+            headers = new HttpHeaders();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
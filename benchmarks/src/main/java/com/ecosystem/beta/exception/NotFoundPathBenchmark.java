@@ -0,0 +1,74 @@
+package com.ecosystem.beta.exception;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.exception.BaseException;
+import com.ecosystem.common.exception.NotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundPathBenchmark {
+
+    private static final NotFoundException PREALLOCATED = NotFoundException.stackless("Order not found");
+
+    @Param({"20", "120"})
+    private int depth;
+
+    private GlobalExceptionHandler handler;
+    private long id;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(new SimpleMeterRegistry(), true);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> withStackTrace() {
+        return handle(missing -> new NotFoundException("Order not found with id: " + missing));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> stackless() {
+        return handle(missing -> NotFoundException.stackless("Order not found with id: " + missing));
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiResponse<Void>> preallocated() {
+        return handle(missing -> PREALLOCATED);
+    }
+
+    private ResponseEntity<ApiResponse<Void>> handle(LongFunction<BaseException> exception) {
+        try {
+            throwAt(depth, ++id, exception);
+            throw new IllegalStateException("unreachable");
+        } catch (BaseException e) {
+            return handler.handleBaseException(e);
+        }
+    }
+
+    private static int throwAt(int remaining, long missing, LongFunction<BaseException> exception) {
+        if (remaining == 0) {
+            throw exception.apply(missing);
+        }
+        return throwAt(remaining - 1, missing, exception) + 1;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.BenchmarkContexts;
+import com.ecosystem.beta.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderRepositoryBenchmark {
+
+    private static final int PRELOADED_ORDERS = 10_000;
+
+    private ConfigurableApplicationContext context;
+    private OrderRepository orderRepository;
+    private List<Long> ids;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start("repository");
+        orderRepository = context.getBean(OrderRepository.class);
+        ids = orderRepository.saveAll(IntStream.range(0, PRELOADED_ORDERS).mapToObj(i -> newOrder()).toList())
+                .stream()
+                .map(Order::getId)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Order save() {
+        return orderRepository.save(newOrder());
+    }
+
+    @Benchmark
+    public Optional<Order> findById() {
+        return orderRepository.findById(ids.get(ThreadLocalRandom.current().nextInt(ids.size())));
+    }
+
+    private static Order newOrder() {
+        Instant now = Instant.now();
+        Order order = new Order();
+        order.setUserId(ThreadLocalRandom.current().nextLong(1, 1000));
+        order.setProductName("Laptop");
+        order.setQuantity(2);
+        order.setTotalPrice(new BigDecimal("1500.00"));
+        order.setStatus("PENDING");
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        return order;
+    }
+}
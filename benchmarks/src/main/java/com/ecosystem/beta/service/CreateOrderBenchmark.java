@@ -0,0 +1,81 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.BenchmarkContexts;
+import com.ecosystem.beta.client.UserCache;
+import com.ecosystem.beta.client.UserServiceClient;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.repository.OrderRepository;
+import com.ecosystem.common.dto.UserDto;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreateOrderBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderDto input;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContexts.start("create-order");
+        orderService = new OrderServiceImpl(context.getBean(OrderRepository.class), new StubUserServiceClient(),
+                context.getBean(EntityManager.class), context.getBean(OrderCache.class),
+                context.getBean(OrderChangeLog.class), context.getBean(OrderOutbox.class),
+                context.getBean(OrderStatistics.class),
+                context.getBean(TransactionTemplate.class), 500);
+        input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderDto createOrder() {
+        return orderService.createOrder(input);
+    }
+
+    private static final class StubUserServiceClient extends UserServiceClient {
+
+        private static final UserDto USER = new UserDto(1L, "john.doe", "john@example.com", "John", "Doe",
+                Instant.parse("2024-01-01T00:00:00Z"));
+
+        StubUserServiceClient() {
+            super(RestClient.create(), new UserCache(false, 0, Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry()),
+                    CircuitBreaker.ofDefaults("alpha"), Bulkhead.ofDefaults("alpha"), 100, 8, false);
+        }
+
+        @Override
+        public UserDto getUserById(Long userId) {
+            return USER;
+        }
+    }
+}
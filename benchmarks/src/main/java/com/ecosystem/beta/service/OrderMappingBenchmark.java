@@ -0,0 +1,55 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMappingBenchmark {
+
+    private Order order;
+    private OrderDto orderDto;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.parse("2024-01-01T00:00:00Z");
+        order = new Order();
+        order.setId(1L);
+        order.setUserId(1L);
+        order.setProductName("Laptop");
+        order.setQuantity(2);
+        order.setTotalPrice(new BigDecimal("1500.00"));
+        order.setStatus("PENDING");
+        order.setCreatedAt(now);
+        order.setUpdatedAt(now);
+        orderDto = OrderServiceImpl.toDto(order);
+    }
+
+    @Benchmark
+    public OrderDto toDto() {
+        return OrderServiceImpl.toDto(order);
+    }
+
+    @Benchmark
+    public Order toEntity() {
+        return OrderServiceImpl.toEntity(orderDto);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class BadRequestException extends BaseException {
+
+    public BadRequestException(String message) {
+        super(message, HttpStatus.BAD_REQUEST);
+    }
+
+    private BadRequestException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.BAD_REQUEST, writableStackTrace);
+    }
+
+    public static BadRequestException stackless(String message) {
+        return new BadRequestException(message, false);
+    }
+}
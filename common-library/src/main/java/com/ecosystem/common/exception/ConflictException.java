@@ -0,0 +1,18 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ConflictException extends BaseException {
+
+    public ConflictException(String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+
+    private ConflictException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.CONFLICT, writableStackTrace);
+    }
+
+    public static ConflictException stackless(String message) {
+        return new ConflictException(message, false);
+    }
+}
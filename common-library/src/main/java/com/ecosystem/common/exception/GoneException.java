@@ -0,0 +1,18 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class GoneException extends BaseException {
+
+    public GoneException(String message) {
+        super(message, HttpStatus.GONE);
+    }
+
+    private GoneException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.GONE, writableStackTrace);
+    }
+
+    public static GoneException stackless(String message) {
+        return new GoneException(message, false);
+    }
+}
@@ -7,4 +7,12 @@ public class NotFoundException extends BaseException {
     public NotFoundException(String message) {
         super(message, HttpStatus.NOT_FOUND);
     }
+
+    private NotFoundException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.NOT_FOUND, writableStackTrace);
+    }
+
+    public static NotFoundException stackless(String message) {
+        return new NotFoundException(message, false);
+    }
 }
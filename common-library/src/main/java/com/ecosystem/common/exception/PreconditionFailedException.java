@@ -0,0 +1,18 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class PreconditionFailedException extends BaseException {
+
+    public PreconditionFailedException(String message) {
+        super(message, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    private PreconditionFailedException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.PRECONDITION_FAILED, writableStackTrace);
+    }
+
+    public static PreconditionFailedException stackless(String message) {
+        return new PreconditionFailedException(message, false);
+    }
+}
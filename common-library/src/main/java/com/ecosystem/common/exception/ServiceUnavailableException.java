@@ -0,0 +1,14 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class ServiceUnavailableException extends BaseException {
+
+    public ServiceUnavailableException(String message) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, HttpStatus.SERVICE_UNAVAILABLE, cause);
+    }
+}
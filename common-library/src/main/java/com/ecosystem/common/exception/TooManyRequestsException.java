@@ -0,0 +1,18 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends BaseException {
+
+    public TooManyRequestsException(String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    private TooManyRequestsException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS, writableStackTrace);
+    }
+
+    public static TooManyRequestsException stackless(String message) {
+        return new TooManyRequestsException(message, false);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecosystem.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class UnprocessableEntityException extends BaseException {
+
+    public UnprocessableEntityException(String message) {
+        super(message, HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    private UnprocessableEntityException(String message, boolean writableStackTrace) {
+        super(message, HttpStatus.UNPROCESSABLE_ENTITY, writableStackTrace);
+    }
+
+    public static UnprocessableEntityException stackless(String message) {
+        return new UnprocessableEntityException(message, false);
+    }
+}
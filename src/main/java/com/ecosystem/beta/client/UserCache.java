@@ -0,0 +1,112 @@
+package com.ecosystem.beta.client;
+
+import com.ecosystem.common.dto.UserDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+@Component
+public class UserCache implements AutoCloseable {
+
+    static final String CACHE_NAME = "alpha.users";
+
+    private final ExecutorService loaders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AsyncCache<Long, Optional<UserDto>> cache;
+
+    @Autowired
+    public UserCache(@Value("${services.alpha.user-cache.enabled:true}") boolean enabled,
+                     @Value("${services.alpha.user-cache.maximum-size:10000}") long maximumSize,
+                     @Value("${services.alpha.user-cache.ttl:5m}") Duration ttl,
+                     @Value("${services.alpha.user-cache.negative-ttl:30s}") Duration negativeTtl,
+                     MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, ttl, negativeTtl, meterRegistry, Ticker.systemTicker());
+    }
+
+    UserCache(boolean enabled, long maximumSize, Duration ttl, Duration negativeTtl,
+              MeterRegistry meterRegistry, Ticker ticker) {
+        this.cache = enabled ? buildCache(maximumSize, ttl, negativeTtl, ticker, loaders, meterRegistry) : null;
+    }
+
+    public Optional<UserDto> get(Long userId, Function<Long, Optional<UserDto>> loader) {
+        if (cache == null) {
+            return loader.apply(userId);
+        }
+        CompletableFuture<Optional<UserDto>> user = cache.get(userId, loader);
+        try {
+            return user.join();
+        } catch (CompletionException e) {
+            cache.asMap().remove(userId, user);
+            throw unwrap(e);
+        }
+    }
+
+    public Map<Long, Optional<UserDto>> getAll(Collection<Long> userIds,
+                                               Function<Set<Long>, Map<Long, Optional<UserDto>>> loader) {
+        if (cache == null) {
+            return loader.apply(new HashSet<>(userIds));
+        }
+        try {
+            return cache.getAll(userIds, (missing, executor) ->
+                    CompletableFuture.supplyAsync(() -> loader.apply(Set.copyOf(missing)), executor)).join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        loaders.close();
+    }
+
+    private static RuntimeException unwrap(CompletionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+
+    private static AsyncCache<Long, Optional<UserDto>> buildCache(long maximumSize, Duration ttl, Duration negativeTtl,
+                                                                  Ticker ticker, ExecutorService loaders,
+                                                                  MeterRegistry meterRegistry) {
+        AsyncCache<Long, Optional<UserDto>> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, Optional<UserDto>>() {
+                    @Override
+                    public long expireAfterCreate(Long userId, Optional<UserDto> user, long currentTime) {
+                        return (user.isPresent() ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long userId, Optional<UserDto> user, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(userId, user, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long userId, Optional<UserDto> user, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .executor(loaders)
+                .ticker(ticker)
+                .recordStats()
+                .buildAsync();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecosystem.beta.client;
+
+import com.ecosystem.common.dto.UserDto;
+
+import java.util.Map;
+import java.util.Set;
+
+public record UserLookupResult(
+        Map<Long, UserDto> found,
+        Set<Long> missing
+) {}
@@ -2,27 +2,154 @@ package com.ecosystem.beta.client;
 
 import com.ecosystem.common.dto.UserDto;
 import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
 @Component
-public class UserServiceClient {
+public class UserServiceClient implements AutoCloseable {
+
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+    private static final int DEFAULT_MAX_CONCURRENCY = 8;
 
     private final RestClient restClient;
+    private final UserCache userCache;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final int chunkSize;
+    private final boolean batchEndpointEnabled;
+    private final Semaphore chunkPermits;
+    private final ExecutorService chunkExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public UserServiceClient(RestClient serviceAlphaRestClient) {
+    @Autowired
+    public UserServiceClient(RestClient serviceAlphaRestClient, UserCache userCache,
+                             CircuitBreaker serviceAlphaCircuitBreaker, Bulkhead serviceAlphaBulkhead,
+                             @Value("${services.alpha.batch-lookup.chunk-size:100}") int chunkSize,
+                             @Value("${services.alpha.batch-lookup.max-concurrency:8}") int maxConcurrency,
+                             @Value("${services.alpha.batch-lookup.endpoint-enabled:false}") boolean batchEndpointEnabled) {
         this.restClient = serviceAlphaRestClient;
+        this.userCache = userCache;
+        this.circuitBreaker = serviceAlphaCircuitBreaker;
+        this.bulkhead = serviceAlphaBulkhead;
+        this.chunkSize = chunkSize;
+        this.batchEndpointEnabled = batchEndpointEnabled;
+        this.chunkPermits = new Semaphore(maxConcurrency);
+    }
+
+    UserServiceClient(RestClient serviceAlphaRestClient, UserCache userCache) {
+        this(serviceAlphaRestClient, userCache, CircuitBreaker.ofDefaults("alpha"), Bulkhead.ofDefaults("alpha"),
+                DEFAULT_CHUNK_SIZE, DEFAULT_MAX_CONCURRENCY, false);
     }
 
     public UserDto getUserById(Long userId) {
+        return userCache.get(userId, this::fetchUser)
+                .orElseThrow(() -> NotFoundException.stackless("User not found with id: " + userId));
+    }
+
+    public UserLookupResult getUsersByIds(Collection<Long> userIds) {
+        List<Long> distinctIds = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        Map<Long, UserDto> found = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        userCache.getAll(distinctIds, this::fetchUsers).forEach((userId, user) ->
+                user.ifPresentOrElse(value -> found.put(userId, value), () -> missing.add(userId)));
+        return new UserLookupResult(found, missing);
+    }
+
+    @Override
+    public void close() {
+        chunkExecutor.close();
+    }
+
+    private Optional<UserDto> fetchUser(Long userId) {
+        return callAlpha(() -> {
+            try {
+                return Optional.ofNullable(restClient.get()
+                        .uri("/api/v1/users/{id}", userId)
+                        .retrieve()
+                        .body(UserDto.class));
+            } catch (HttpClientErrorException.NotFound e) {
+                return Optional.empty();
+            }
+        });
+    }
+
+    private <T> T callAlpha(Supplier<T> request) {
+        try {
+            return Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, request)).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw new ServiceUnavailableException("service-alpha is unavailable", e);
+        } catch (ResourceAccessException | HttpServerErrorException e) {
+            throw new ServiceUnavailableException("service-alpha request failed", e);
+        }
+    }
+
+    private Map<Long, Optional<UserDto>> fetchUsers(Set<Long> userIds) {
+        List<Long> ids = new ArrayList<>(userIds);
+        int idsPerCall = batchEndpointEnabled ? chunkSize : 1;
+        List<CompletableFuture<Map<Long, Optional<UserDto>>>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += idsPerCall) {
+            List<Long> chunk = ids.subList(from, Math.min(from + idsPerCall, ids.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> fetchChunk(chunk), chunkExecutor));
+        }
+        Map<Long, Optional<UserDto>> users = new HashMap<>();
+        try {
+            chunks.forEach(chunk -> users.putAll(chunk.join()));
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return users;
+    }
+
+    private Map<Long, Optional<UserDto>> fetchChunk(List<Long> userIds) {
+        chunkPermits.acquireUninterruptibly();
         try {
-            return restClient.get()
-                    .uri("/api/v1/users/{id}", userId)
-                    .retrieve()
-                    .body(UserDto.class);
-        } catch (HttpClientErrorException.NotFound e) {
-            throw new NotFoundException("User not found with id: " + userId);
+            Map<Long, Optional<UserDto>> users = new HashMap<>();
+            if (batchEndpointEnabled) {
+                userIds.forEach(userId -> users.put(userId, Optional.empty()));
+                UserDto[] body = callAlpha(() -> restClient.get()
+                        .uri(uri -> uri.path("/api/v1/users").queryParam("ids", userIds.toArray()).build())
+                        .retrieve()
+                        .body(UserDto[].class));
+                if (body != null) {
+                    for (UserDto user : body) {
+                        users.put(user.id(), Optional.of(user));
+                    }
+                }
+            } else {
+                Long userId = userIds.get(0);
+                users.put(userId, fetchUser(userId));
+            }
+            return users;
+        } finally {
+            chunkPermits.release();
         }
     }
 }
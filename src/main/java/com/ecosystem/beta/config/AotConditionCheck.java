@@ -0,0 +1,34 @@
+package com.ecosystem.beta.config;
+
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AotConditionCheck implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+    private final Environment environment;
+
+    public AotConditionCheck(ListableBeanFactory beanFactory, Environment environment) {
+        this.beanFactory = beanFactory;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        check("orders.sharding.enabled", false, ShardingConfig.class);
+        check("orders.replicas.enabled", false, ReplicaConfig.class);
+        check("orders.metrics.enabled", true, MetricsConfig.class);
+    }
+
+    private void check(String property, boolean defaultValue, Class<?> configuration) {
+        boolean enabled = environment.getProperty(property, Boolean.class, defaultValue);
+        boolean registered = beanFactory.getBeanNamesForType(configuration, false, false).length > 0;
+        if (enabled != registered) {
+            throw new IllegalStateException(property + "=" + enabled + " does not match the application built with "
+                    + property + "=" + registered + ". Rebuild the fast-startup variant after changing it.");
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecosystem.beta.config;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    private final Jackson2ObjectMapperBuilder objectMapperBuilder;
+    private final boolean enabled;
+
+    public BinaryFormatConfig(Jackson2ObjectMapperBuilder objectMapperBuilder,
+                              @Value("${orders.binary-formats.enabled:true}") boolean enabled) {
+        this.objectMapperBuilder = objectMapperBuilder;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        if (enabled) {
+            converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder
+                    .factory(new CBORFactory())
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build()));
+            converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder
+                    .factory(new SmileFactory())
+                    .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build()));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.ecosystem.beta.config;
+
+import com.ecosystem.beta.service.OrderServiceImpl;
+import com.ecosystem.beta.service.TimedOrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+@Configuration
+@ConditionalOnProperty(name = "orders.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    @Primary
+    public TimedOrderService timedOrderService(OrderServiceImpl orderServiceImpl, MeterRegistry meterRegistry) {
+        return new TimedOrderService(orderServiceImpl, meterRegistry);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecosystem.beta.config;
+
+import com.ecosystem.beta.service.LoggingOrderEventSink;
+import com.ecosystem.beta.service.OrderEventSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OrderEventSink.class)
+    public OrderEventSink orderEventSink() {
+        return new LoggingOrderEventSink();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ecosystem.beta.config;
+
+import com.ecosystem.beta.replica.ReadYourWritesTracker;
+import com.ecosystem.beta.replica.ReplicaRoutingDataSource;
+import com.ecosystem.beta.replica.ReplicaRoutingInterceptor;
+import com.ecosystem.beta.service.OrderServiceImpl;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.RootClassFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "orders.replicas.enabled", havingValue = "true")
+public class ReplicaConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor replicaRoutingAdvisor(
+            @Value("${orders.replicas.sticky-window:5s}") Duration stickyWindow,
+            @Value("${orders.replicas.sticky-maximum-clients:100000}") long stickyMaximumClients,
+            @Value("${orders.replicas.client-header:X-Client-Id}") String clientHeader) {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(stickyWindow, stickyMaximumClients);
+        return new DefaultPointcutAdvisor(new ComposablePointcut(new RootClassFilter(OrderServiceImpl.class)),
+                new ReplicaRoutingInterceptor(tracker, clientHeader));
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            DataSourceProperties dataSourceProperties,
+            @Value("${orders.replicas.urls}") List<String> urls,
+            @Value("${orders.replicas.initialize-schema:false}") boolean initializeSchema,
+            @Value("${orders.sharding.enabled:false}") boolean sharding,
+            MeterRegistry meterRegistry) {
+        if (sharding) {
+            throw new IllegalStateException("orders.replicas cannot be combined with orders.sharding");
+        }
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        HikariDataSource primary = OrderDataSources.pool("orders-primary", dataSourceProperties.determineUrl(),
+                username, password, meterRegistry);
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int replica = 0; replica < urls.size(); replica++) {
+            HikariDataSource dataSource = OrderDataSources.pool("orders-replica-" + replica, urls.get(replica),
+                    username, password, meterRegistry);
+            if (initializeSchema) {
+                OrderDataSources.createSchema(dataSource);
+            }
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
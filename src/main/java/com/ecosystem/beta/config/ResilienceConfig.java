@@ -0,0 +1,69 @@
+package com.ecosystem.beta.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+@Configuration
+public class ResilienceConfig {
+
+    static final String ALPHA = "alpha";
+
+    @Bean
+    public CircuitBreaker serviceAlphaCircuitBreaker(
+            @Value("${services.alpha.circuit-breaker.failure-rate-threshold:50}") float failureRateThreshold,
+            @Value("${services.alpha.circuit-breaker.slow-call-duration-threshold:2s}") Duration slowCallDurationThreshold,
+            @Value("${services.alpha.circuit-breaker.slow-call-rate-threshold:100}") float slowCallRateThreshold,
+            @Value("${services.alpha.circuit-breaker.sliding-window-size:20}") int slidingWindowSize,
+            @Value("${services.alpha.circuit-breaker.minimum-number-of-calls:10}") int minimumNumberOfCalls,
+            @Value("${services.alpha.circuit-breaker.wait-duration-in-open-state:10s}") Duration waitDurationInOpenState,
+            @Value("${services.alpha.circuit-breaker.permitted-calls-in-half-open-state:3}") int permittedCallsInHalfOpenState,
+            MeterRegistry meterRegistry) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .recordExceptions(ResourceAccessException.class, HttpServerErrorException.class)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker(ALPHA);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> meterRegistry.counter(
+                "alpha.circuitbreaker.transitions",
+                "from", event.getStateTransition().getFromState().name(),
+                "to", event.getStateTransition().getToState().name()).increment());
+        return circuitBreaker;
+    }
+
+    @Bean
+    public Bulkhead serviceAlphaBulkhead(
+            @Value("${services.alpha.bulkhead.max-concurrent-calls:100}") int maxConcurrentCalls,
+            @Value("${services.alpha.bulkhead.max-wait:0ms}") Duration maxWait,
+            MeterRegistry meterRegistry) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build());
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        Bulkhead bulkhead = registry.bulkhead(ALPHA);
+        bulkhead.getEventPublisher().onCallRejected(event ->
+                meterRegistry.counter("alpha.bulkhead.rejections").increment());
+        return bulkhead;
+    }
+}
@@ -1,15 +1,112 @@
 package com.ecosystem.beta.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
-public class RestClientConfig {
+public class RestClientConfig implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RestClientConfig.class);
+
+    static final String ALPHA_POOL_NAME = "alpha";
+
+    private final ExecutorService http2Executor = Executors.newVirtualThreadPerTaskExecutor();
 
     @Bean
-    public RestClient serviceAlphaRestClient(@Value("${services.alpha.base-url}") String baseUrl) {
-        return RestClient.builder().baseUrl(baseUrl).build();
+    public RestClient serviceAlphaRestClient(@Value("${services.alpha.base-url}") String baseUrl,
+                                             ClientHttpRequestFactory serviceAlphaRequestFactory,
+                                             @Value("${orders.metrics.enabled:true}") boolean metricsEnabled,
+                                             ObservationRegistry observationRegistry) {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestFactory(serviceAlphaRequestFactory)
+                .observationRegistry(metricsEnabled ? observationRegistry : ObservationRegistry.NOOP)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory serviceAlphaRequestFactory(
+            @Value("${services.alpha.http.version:HTTP_1_1}") HttpClient.Version version,
+            @Value("${services.alpha.http.max-connections:200}") int maxConnections,
+            @Value("${services.alpha.http.max-connections-per-route:50}") int maxConnectionsPerRoute,
+            @Value("${services.alpha.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${services.alpha.http.read-timeout:5s}") Duration readTimeout,
+            @Value("${services.alpha.http.pool-acquire-timeout:1s}") Duration poolAcquireTimeout,
+            @Value("${services.alpha.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${services.alpha.http.time-to-live:5m}") Duration timeToLive,
+            @Value("${services.alpha.http.compression:true}") boolean compression,
+            MeterRegistry meterRegistry) {
+        if (version == HttpClient.Version.HTTP_2) {
+            log.warn("services.alpha.http.version=HTTP_2 uses the JDK HTTP client, which ignores "
+                    + "max-connections={}, max-connections-per-route={}, pool-acquire-timeout={}, keep-alive={}, "
+                    + "time-to-live={} and compression={}, and publishes no alpha.http.pool.* metrics", maxConnections,
+                    maxConnectionsPerRoute, poolAcquireTimeout, keepAlive, timeToLive, compression);
+            JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_2)
+                    .connectTimeout(connectTimeout)
+                    .executor(http2Executor)
+                    .build());
+            requestFactory.setReadTimeout(readTimeout);
+            return requestFactory;
+        }
+
+        Timer leaseTimer = Timer.builder("alpha.http.pool.lease")
+                .description("Time spent waiting to lease a pooled connection to service-alpha")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        InstrumentedConnectionManager connectionManager = new InstrumentedConnectionManager(leaseTimer);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive))
+                .build());
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, ALPHA_POOL_NAME).bindTo(meterRegistry);
+
+        HttpClientBuilder httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue offered = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+                            context);
+                    return offered.compareTo(TimeValue.of(keepAlive)) < 0 ? offered : TimeValue.of(keepAlive);
+                })
+                .evictIdleConnections(TimeValue.of(keepAlive));
+        if (!compression) {
+            httpClient.disableContentCompression();
+        }
+        return new HttpComponentsClientHttpRequestFactory(httpClient.build());
+    }
+
+    @Override
+    public void close() {
+        http2Executor.close();
     }
 }
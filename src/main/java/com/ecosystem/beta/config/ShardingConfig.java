@@ -0,0 +1,89 @@
+package com.ecosystem.beta.config;
+
+import com.ecosystem.beta.repository.OrderRepository;
+import com.ecosystem.beta.repository.OrderStore;
+import com.ecosystem.beta.repository.OutboxEventRepository;
+import com.ecosystem.beta.repository.OutboxEventStore;
+import com.ecosystem.beta.sharding.OrderShardRouter;
+import com.ecosystem.beta.sharding.ShardRoutingDataSource;
+import com.ecosystem.beta.sharding.ShardedRepositoryInterceptor;
+import com.ecosystem.beta.sharding.ShardedSequenceGenerator;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "orders.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(
+            @Value("${orders.sharding.urls}") List<String> urls,
+            @Value("${spring.datasource.username:sa}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            MeterRegistry meterRegistry) {
+        List<HikariDataSource> shards = new ArrayList<>(urls.size());
+        for (int shard = 0; shard < urls.size(); shard++) {
+            HikariDataSource dataSource = OrderDataSources.pool("orders-shard-" + shard, urls.get(shard), username,
+                    password, meterRegistry);
+            OrderDataSources.createSchema(dataSource);
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public OrderShardRouter orderShardRouter(ShardRoutingDataSource shardRoutingDataSource) {
+        return new OrderShardRouter(shardRoutingDataSource.shardCount());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardedSequenceCustomizer(OrderShardRouter orderShardRouter) {
+        return properties -> properties.put(ShardedSequenceGenerator.SHARD_COUNT, orderShardRouter.shardCount());
+    }
+
+    @Bean
+    @Primary
+    public OrderStore shardedOrderStore(@Qualifier("orderRepository") OrderRepository orderRepository,
+                                        OrderShardRouter orderShardRouter,
+                                        ShardRoutingDataSource shardRoutingDataSource) {
+        return sharded(OrderStore.class, orderRepository, orderShardRouter, shardRoutingDataSource);
+    }
+
+    @Bean
+    @Primary
+    public OutboxEventStore shardedOutboxEventStore(
+            @Qualifier("outboxEventRepository") OutboxEventRepository outboxEventRepository,
+            OrderShardRouter orderShardRouter,
+            ShardRoutingDataSource shardRoutingDataSource) {
+        return sharded(OutboxEventStore.class, outboxEventRepository, orderShardRouter, shardRoutingDataSource);
+    }
+
+    private static <T> T sharded(Class<T> storeType, T repository, OrderShardRouter router,
+                                 ShardRoutingDataSource shardRoutingDataSource) {
+        ProxyFactory proxy = new ProxyFactory();
+        proxy.setTarget(repository);
+        proxy.addInterface(storeType);
+        proxy.addAdvice(new ShardedRepositoryInterceptor(storeType, repository, router,
+                shardRoutingDataSource.executor()));
+        return storeType.cast(proxy.getProxy(storeType.getClassLoader()));
+    }
+}
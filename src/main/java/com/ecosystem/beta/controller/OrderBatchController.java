@@ -0,0 +1,43 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.service.OrderService;
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.StreamSupport;
+
+@RestController
+public class OrderBatchController {
+
+    private final OrderService orderService;
+    private final ObjectReader orderReader;
+
+    public OrderBatchController(OrderService orderService, ObjectMapper objectMapper) {
+        this.orderService = orderService;
+        this.orderReader = objectMapper.readerFor(OrderDto.class);
+    }
+
+    @PostMapping(path = "/api/v1/orders:batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, OrderController.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<List<OrderBatchItemResult>>> createOrders(HttpServletRequest request)
+            throws IOException {
+        try (MappingIterator<OrderDto> orders = orderReader.readValues(request.getInputStream())) {
+            List<OrderBatchItemResult> results = orderService.createOrders(
+                    StreamSupport.stream(Spliterators.spliteratorUnknownSize(orders, Spliterator.ORDERED), false));
+            return ResponseEntity.ok(ApiResponse.ok(results));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.service.OrderChangeFeed;
+import com.ecosystem.common.exception.GoneException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+public class OrderChangeController {
+
+    private static final String LAST_EVENT_ID = "Last-Event-ID";
+
+    private final OrderChangeFeed orderChangeFeed;
+
+    public OrderChangeController(OrderChangeFeed orderChangeFeed) {
+        this.orderChangeFeed = orderChangeFeed;
+    }
+
+    @GetMapping(path = "/api/v1/orders/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long since,
+                                    @RequestHeader(value = LAST_EVENT_ID, required = false) Long lastEventId) {
+        return orderChangeFeed.subscribe(since != null ? since : lastEventId);
+    }
+
+    @ExceptionHandler(GoneException.class)
+    public ResponseEntity<Void> handleGone(GoneException ex) {
+        return ResponseEntity.status(HttpStatus.GONE).build();
+    }
+}
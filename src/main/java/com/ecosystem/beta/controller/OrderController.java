@@ -1,54 +1,249 @@
 package com.ecosystem.beta.controller;
 
 import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.dto.OrderProjectionPage;
+import com.ecosystem.beta.dto.OrderRevision;
+import com.ecosystem.beta.dto.OrderStats;
+import com.ecosystem.beta.dto.OrderSubmission;
+import com.ecosystem.beta.service.IdempotencyStore;
+import com.ecosystem.beta.service.OrderPipeline;
 import com.ecosystem.beta.service.OrderService;
+import com.ecosystem.beta.service.OrderStatistics;
 import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final OrderService orderService;
+    private final OrderPipeline orderPipeline;
+    private final OrderStatistics orderStatistics;
+    private final IdempotencyStore idempotencyStore;
+    private final String clientHeader;
+    private final ObjectWriter ndjsonWriter;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, OrderPipeline orderPipeline, OrderStatistics orderStatistics,
+                           IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                           @Value("${orders.idempotency.client-header:X-Client-Id}") String clientHeader) {
         this.orderService = orderService;
+        this.orderPipeline = orderPipeline;
+        this.orderStatistics = orderStatistics;
+        this.idempotencyStore = idempotencyStore;
+        this.clientHeader = clientHeader;
+        this.ndjsonWriter = objectMapper.writerFor(OrderDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<OrderDto>>> getAllOrders() {
-        List<OrderDto> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(ApiResponse.ok(orders));
+    public ResponseEntity<ApiResponse<List<OrderDto>>> getOrders(@RequestParam(required = false) Long userId,
+                                                                 @RequestParam(required = false) String status,
+                                                                 @RequestParam(required = false) Instant createdFrom,
+                                                                 @RequestParam(required = false) Instant createdTo,
+                                                                 @RequestParam(required = false) Long after,
+                                                                 @RequestParam(defaultValue = "100") int limit) {
+        OrderFilter filter = new OrderFilter(userId, status, createdFrom, createdTo);
+        OrderPage page = orderService.getOrders(filter, after, limit);
+        return withNextLink(page.nextAfter()).body(ApiResponse.ok(page.orders()));
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getOrderProjections(@RequestParam String fields,
+                                                                                      @RequestParam(required = false) Long userId,
+                                                                                      @RequestParam(required = false) String status,
+                                                                                      @RequestParam(required = false) Instant createdFrom,
+                                                                                      @RequestParam(required = false) Instant createdTo,
+                                                                                      @RequestParam(required = false) Long after,
+                                                                                      @RequestParam(defaultValue = "100") int limit) {
+        OrderFilter filter = new OrderFilter(userId, status, createdFrom, createdTo);
+        OrderProjectionPage page = orderService.getOrderProjections(filter, after, limit, OrderField.parse(fields));
+        return withNextLink(page.nextAfter()).body(ApiResponse.ok(page.orders()));
+    }
+
+    private static ResponseEntity.BodyBuilder withNextLink(Long nextAfter) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (nextAfter != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", nextAfter)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response;
+    }
+
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamOrders(@RequestParam(required = false) Long userId,
+                                                              @RequestParam(required = false) String status,
+                                                              @RequestParam(required = false) Instant createdFrom,
+                                                              @RequestParam(required = false) Instant createdTo,
+                                                              @RequestParam(required = false) Long after) {
+        OrderFilter filter = new OrderFilter(userId, status, createdFrom, createdTo);
+        StreamingResponseBody body = out -> orderService.streamOrders(filter, after, order -> {
+            try {
+                ndjsonWriter.writeValue(out, order);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, APPLICATION_NDJSON_VALUE)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<OrderStats>> getStats(@RequestParam(required = false) Long userId) {
+        return ResponseEntity.ok(ApiResponse.ok(orderStatistics.snapshot(userId)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<OrderDto>> getOrderById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<OrderDto>> getOrderById(@PathVariable Long id, WebRequest request) {
+        ResponseEntity<ApiResponse<OrderDto>> notModified = checkNotModified(id, request, null);
+        if (notModified != null) {
+            return notModified;
+        }
         OrderDto order = orderService.getOrderById(id);
-        return ResponseEntity.ok(ApiResponse.ok(order));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(OrderETags.of(order, request.getHeader(HttpHeaders.ACCEPT)))
+                .varyBy(HttpHeaders.ACCEPT);
+        if (order.updatedAt() != null) {
+            response.lastModified(order.updatedAt());
+        }
+        return response.body(ApiResponse.ok(order));
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOrderProjection(@PathVariable Long id,
+                                                                               @RequestParam String fields,
+                                                                               WebRequest request) {
+        Set<OrderField> projection = OrderField.parse(fields);
+        ResponseEntity<ApiResponse<Map<String, Object>>> notModified = checkNotModified(id, request, projection);
+        if (notModified != null) {
+            return notModified;
+        }
+        Map<String, Object> order = orderService.getOrderProjection(id, projection);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT);
+        if (order.get(OrderField.VERSION.attribute()) instanceof Long version) {
+            response.eTag(OrderETags.of(version, request.getHeader(HttpHeaders.ACCEPT), projection));
+        }
+        if (order.get(OrderField.UPDATED_AT.attribute()) instanceof Instant updatedAt) {
+            response.lastModified(updatedAt);
+        }
+        return response.body(ApiResponse.ok(order));
+    }
+
+    private <T> ResponseEntity<T> checkNotModified(Long id, WebRequest request, Set<OrderField> fields) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null) {
+            return null;
+        }
+        OrderRevision revision = orderService.getOrderRevision(id);
+        String eTag = OrderETags.of(revision.version(), request.getHeader(HttpHeaders.ACCEPT), fields);
+        long lastModified = revision.updatedAt() == null ? -1 : revision.updatedAt().toEpochMilli();
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .lastModified(lastModified)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+        return null;
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<OrderDto>> createOrder(@Valid @RequestBody OrderDto orderDto) {
-        OrderDto created = orderService.createOrder(orderDto);
-        return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(created));
+    public ResponseEntity<ApiResponse<?>> createOrder(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                      @Valid @RequestBody OrderDto orderDto,
+                                                      HttpServletRequest request) {
+        String client = client(request);
+        if (orderPipeline.isEnabled()) {
+            OrderSubmission submission = idempotencyStore.execute(client, idempotencyKey, orderDto,
+                    () -> orderPipeline.submit(orderDto));
+            URI location = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                    .path("/submissions/{trackingId}")
+                    .buildAndExpand(submission.trackingId())
+                    .toUri();
+            return ResponseEntity.accepted().location(location).body(ApiResponse.ok(submission));
+        }
+        OrderDto created = idempotencyStore.execute(client, idempotencyKey, orderDto,
+                () -> orderService.createOrder(orderDto));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(OrderETags.of(created, request.getHeader(HttpHeaders.ACCEPT)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.ok(created));
+    }
+
+    private String client(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        return client != null ? client : request.getRemoteAddr();
+    }
+
+    @GetMapping("/submissions/{trackingId}")
+    public ResponseEntity<ApiResponse<OrderSubmission>> getSubmission(@PathVariable String trackingId) {
+        return ResponseEntity.ok(ApiResponse.ok(orderPipeline.getSubmission(trackingId)));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<OrderDto>> updateOrder(@PathVariable Long id, @Valid @RequestBody OrderDto orderDto) {
-        OrderDto updated = orderService.updateOrder(id, orderDto);
-        return ResponseEntity.ok(ApiResponse.ok(updated));
+    public ResponseEntity<ApiResponse<OrderDto>> updateOrder(@PathVariable Long id,
+                                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                             @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                             @Valid @RequestBody OrderDto orderDto) {
+        OrderDto updated = orderService.updateOrder(id, orderDto, OrderETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(OrderETags.of(updated, accept))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.ok(updated));
+    }
+
+    @PatchMapping("/{id}")
+    public ResponseEntity<ApiResponse<OrderDto>> patchOrder(@PathVariable Long id,
+                                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                            @RequestBody OrderDto changes) {
+        OrderDto patched = orderService.patchOrder(id, changes, OrderETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(OrderETags.of(patched, accept))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(ApiResponse.ok(patched));
     }
 
     @DeleteMapping("/{id}")
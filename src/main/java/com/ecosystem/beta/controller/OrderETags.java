@@ -0,0 +1,49 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.common.exception.PreconditionFailedException;
+
+import java.util.Set;
+
+final class OrderETags {
+
+    private OrderETags() {
+    }
+
+    static String of(OrderDto order, String accept) {
+        return of(order.version(), accept, null);
+    }
+
+    static String of(Long version, String accept, Set<OrderField> fields) {
+        StringBuilder representation = new StringBuilder();
+        if (accept != null && !accept.isBlank()) {
+            representation.append(accept.trim());
+        }
+        if (fields != null) {
+            representation.append(';');
+            fields.forEach(field -> representation.append(field.attribute()).append(','));
+        }
+        if (representation.isEmpty()) {
+            return "\"" + version + "\"";
+        }
+        return "\"" + version + "-" + Integer.toHexString(representation.toString().hashCode()) + "\"";
+    }
+
+    static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 2 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw PreconditionFailedException.stackless("If-Match must be a single strong entity tag");
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        int representation = value.indexOf('-');
+        try {
+            return Long.valueOf(representation < 0 ? value : value.substring(0, representation));
+        } catch (NumberFormatException e) {
+            throw PreconditionFailedException.stackless("If-Match does not match the current order version");
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+@Component
+public class OrderResponseHttpMessageConverter extends AbstractGenericHttpMessageConverter<ApiResponse<?>> {
+
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString DATA = new SerializedString("data");
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString TOTAL_PRICE = new SerializedString("totalPrice");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString VERSION = new SerializedString("version");
+    private static final String SUCCESS_MESSAGE = "Success";
+    private static final SerializedString SUCCESS_MESSAGE_VALUE = new SerializedString(SUCCESS_MESSAGE);
+    private static final int INSTANT_LENGTH = 30;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+
+    private final JsonFactory jsonFactory;
+    private final boolean enabled;
+
+    public OrderResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonFactory = objectMapper.getFactory();
+        this.enabled = matchesDefaultOutput(objectMapper);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return enabled && type != null && isOrderResponse(ResolvableType.forType(type)) && canWrite(mediaType);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        try (JsonGenerator generator = jsonFactory.createGenerator(
+                StreamUtils.nonClosing(outputMessage.getBody()), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeFieldName(SUCCESS);
+            generator.writeBoolean(response.isSuccess());
+            generator.writeFieldName(MESSAGE);
+            writeMessage(generator, response.getMessage());
+            generator.writeFieldName(DATA);
+            Object data = response.getData();
+            char[] buffer = new char[INSTANT_LENGTH];
+            if (data instanceof OrderDto order) {
+                writeOrder(generator, order, buffer);
+            } else if (data instanceof List<?> orders) {
+                generator.writeStartArray();
+                for (Object order : orders) {
+                    writeOrder(generator, (OrderDto) order, buffer);
+                }
+                generator.writeEndArray();
+            } else {
+                generator.writeNull();
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Order responses are write-only", inputMessage);
+    }
+
+    @Override
+    public ApiResponse<?> read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Order responses are write-only", inputMessage);
+    }
+
+    static void writeOrder(JsonGenerator generator, OrderDto order, char[] buffer) throws IOException {
+        if (order == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        generator.writeFieldName(ID);
+        writeLong(generator, order.id());
+        generator.writeFieldName(USER_ID);
+        writeLong(generator, order.userId());
+        generator.writeFieldName(PRODUCT_NAME);
+        generator.writeString(order.productName());
+        generator.writeFieldName(QUANTITY);
+        writeInteger(generator, order.quantity());
+        generator.writeFieldName(TOTAL_PRICE);
+        writeDecimal(generator, order.totalPrice());
+        generator.writeFieldName(STATUS);
+        generator.writeString(order.status());
+        generator.writeFieldName(CREATED_AT);
+        writeInstant(generator, order.createdAt(), buffer);
+        generator.writeFieldName(UPDATED_AT);
+        writeInstant(generator, order.updatedAt(), buffer);
+        generator.writeFieldName(VERSION);
+        writeLong(generator, order.version());
+        generator.writeEndObject();
+    }
+
+    private static void writeMessage(JsonGenerator generator, String message) throws IOException {
+        if (SUCCESS_MESSAGE.equals(message)) {
+            generator.writeString(SUCCESS_MESSAGE_VALUE);
+        } else {
+            generator.writeString(message);
+        }
+    }
+
+    private static void writeLong(JsonGenerator generator, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeInteger(JsonGenerator generator, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeDecimal(JsonGenerator generator, BigDecimal value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    private static void writeInstant(JsonGenerator generator, Instant value, char[] buffer) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int length = formatInstant(value, buffer);
+        if (length < 0) {
+            generator.writeString(DateTimeFormatter.ISO_INSTANT.format(value));
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
+    }
+
+    static int formatInstant(Instant instant, char[] buffer) {
+        long epochDay = Math.floorDiv(instant.getEpochSecond(), SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(instant.getEpochSecond(), SECONDS_PER_DAY);
+        long shifted = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        int dayOfEra = (int) (shifted - era * DAYS_PER_ERA);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        writeDigits(buffer, 0, (int) year, 4);
+        buffer[4] = '-';
+        writeDigits(buffer, 5, month, 2);
+        buffer[7] = '-';
+        writeDigits(buffer, 8, day, 2);
+        buffer[10] = 'T';
+        writeDigits(buffer, 11, secondOfDay / 3600, 2);
+        buffer[13] = ':';
+        writeDigits(buffer, 14, secondOfDay / 60 % 60, 2);
+        buffer[16] = ':';
+        writeDigits(buffer, 17, secondOfDay % 60, 2);
+        int length = 19;
+        int nano = instant.getNano();
+        if (nano > 0) {
+            buffer[length++] = '.';
+            if (nano % 1_000_000 == 0) {
+                writeDigits(buffer, length, nano / 1_000_000, 3);
+                length += 3;
+            } else if (nano % 1_000 == 0) {
+                writeDigits(buffer, length, nano / 1_000, 6);
+                length += 6;
+            } else {
+                writeDigits(buffer, length, nano, 9);
+                length += 9;
+            }
+        }
+        buffer[length++] = 'Z';
+        return length;
+    }
+
+    private static void writeDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static boolean isOrderResponse(ResolvableType type) {
+        if (type.toClass() != ApiResponse.class) {
+            return false;
+        }
+        ResolvableType data = type.getGeneric(0);
+        return data.toClass() == OrderDto.class
+                || (data.toClass() == List.class && data.getGeneric(0).toClass() == OrderDto.class);
+    }
+
+    private static boolean matchesDefaultOutput(ObjectMapper objectMapper) {
+        JsonInclude.Include inclusion = objectMapper.getSerializationConfig()
+                .getDefaultPropertyInclusion().getValueInclusion();
+        return objectMapper.getPropertyNamingStrategy() == null
+                && !objectMapper.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                && !objectMapper.isEnabled(SerializationFeature.INDENT_OUTPUT)
+                && !objectMapper.isEnabled(SerializationFeature.WRAP_ROOT_VALUE)
+                && !objectMapper.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS);
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecosystem.beta.dto;
+
+import java.math.BigDecimal;
+
+public record OrderAggregate(
+        Long userId,
+        String status,
+        Long count,
+        Long quantity,
+        BigDecimal revenue
+) {}
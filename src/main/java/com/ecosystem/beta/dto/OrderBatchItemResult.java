@@ -0,0 +1,8 @@
+package com.ecosystem.beta.dto;
+
+public record OrderBatchItemResult(
+        int index,
+        int status,
+        OrderDto order,
+        String message
+) {}
@@ -0,0 +1,18 @@
+package com.ecosystem.beta.dto;
+
+import java.time.Instant;
+
+public record OrderChange(
+        long offset,
+        Type type,
+        Long orderId,
+        OrderDto order,
+        Instant occurredAt
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -11,5 +11,6 @@ public record OrderDto(
         BigDecimal totalPrice,
         String status,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
 ) {}
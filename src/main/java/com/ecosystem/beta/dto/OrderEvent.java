@@ -0,0 +1,11 @@
+package com.ecosystem.beta.dto;
+
+import java.time.Instant;
+
+public record OrderEvent(
+        Long id,
+        String type,
+        Long orderId,
+        String payload,
+        Instant createdAt
+) {}
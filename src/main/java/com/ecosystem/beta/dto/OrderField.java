@@ -0,0 +1,59 @@
+package com.ecosystem.beta.dto;
+
+import com.ecosystem.common.exception.BadRequestException;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+public enum OrderField {
+
+    ID("id", OrderDto::id),
+    USER_ID("userId", OrderDto::userId),
+    PRODUCT_NAME("productName", OrderDto::productName),
+    QUANTITY("quantity", OrderDto::quantity),
+    TOTAL_PRICE("totalPrice", OrderDto::totalPrice),
+    STATUS("status", OrderDto::status),
+    CREATED_AT("createdAt", OrderDto::createdAt),
+    UPDATED_AT("updatedAt", OrderDto::updatedAt),
+    VERSION("version", OrderDto::version);
+
+    private final String attribute;
+    private final Function<OrderDto, Object> accessor;
+
+    OrderField(String attribute, Function<OrderDto, Object> accessor) {
+        this.attribute = attribute;
+        this.accessor = accessor;
+    }
+
+    public String attribute() {
+        return attribute;
+    }
+
+    public static Set<OrderField> parse(String fields) {
+        Set<OrderField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            selected.add(fromAttribute(name.trim()));
+        }
+        return selected;
+    }
+
+    public static Map<String, Object> project(OrderDto order, Set<OrderField> fields) {
+        Map<String, Object> projection = new LinkedHashMap<>(fields.size() * 2);
+        for (OrderField field : fields) {
+            projection.put(field.attribute, field.accessor.apply(order));
+        }
+        return projection;
+    }
+
+    private static OrderField fromAttribute(String name) {
+        for (OrderField field : values()) {
+            if (field.attribute.equals(name)) {
+                return field;
+            }
+        }
+        throw BadRequestException.stackless("Unknown order field: " + name);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecosystem.beta.dto;
+
+import java.time.Instant;
+
+public record OrderFilter(
+        Long userId,
+        String status,
+        Instant createdFrom,
+        Instant createdTo
+) {
+
+    public static OrderFilter none() {
+        return new OrderFilter(null, null, null, null);
+    }
+
+    public boolean isEmpty() {
+        return userId == null && status == null && createdFrom == null && createdTo == null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.ecosystem.beta.dto;
+
+import java.util.List;
+
+public record OrderPage(
+        List<OrderDto> orders,
+        Long nextAfter
+) {}
@@ -0,0 +1,9 @@
+package com.ecosystem.beta.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public record OrderProjectionPage(
+        List<Map<String, Object>> orders,
+        Long nextAfter
+) {}
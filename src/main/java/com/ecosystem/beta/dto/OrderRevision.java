@@ -0,0 +1,8 @@
+package com.ecosystem.beta.dto;
+
+import java.time.Instant;
+
+public record OrderRevision(
+        Long version,
+        Instant updatedAt
+) {}
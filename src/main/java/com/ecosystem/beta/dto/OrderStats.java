@@ -0,0 +1,9 @@
+package com.ecosystem.beta.dto;
+
+import java.util.Map;
+
+public record OrderStats(
+        OrderTotals total,
+        Map<String, OrderTotals> byStatus,
+        Map<Long, OrderTotals> byUser
+) {}
@@ -0,0 +1,20 @@
+package com.ecosystem.beta.dto;
+
+public record OrderSubmission(
+        String trackingId,
+        State state,
+        OrderDto order,
+        String message
+) {
+
+    public enum State {
+        PENDING,
+        CREATED,
+        REJECTED,
+        FAILED
+    }
+
+    public static OrderSubmission pending(String trackingId) {
+        return new OrderSubmission(trackingId, State.PENDING, null, null);
+    }
+}
@@ -0,0 +1,9 @@
+package com.ecosystem.beta.dto;
+
+import java.math.BigDecimal;
+
+public record OrderTotals(
+        long count,
+        long quantity,
+        BigDecimal revenue
+) {}
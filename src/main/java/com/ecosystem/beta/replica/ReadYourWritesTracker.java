@@ -0,0 +1,32 @@
+package com.ecosystem.beta.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow, long maximumClients) {
+        this(stickyWindow, maximumClients, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration stickyWindow, long maximumClients, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maximumClients)
+                .expireAfterWrite(stickyWindow)
+                .ticker(ticker)
+                .build();
+    }
+
+    public void recordWrite(String client) {
+        recentWriters.put(client, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String client) {
+        return recentWriters.getIfPresent(client) != null;
+    }
+}
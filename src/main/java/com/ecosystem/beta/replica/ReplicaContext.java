@@ -0,0 +1,27 @@
+package com.ecosystem.beta.replica;
+
+import java.util.function.Supplier;
+
+public final class ReplicaContext {
+
+    private static final ThreadLocal<Boolean> REPLICA_READ = new ThreadLocal<>();
+
+    private ReplicaContext() {
+    }
+
+    public static boolean isReplicaRead() {
+        return REPLICA_READ.get() != null;
+    }
+
+    public static <T> T callOnReplica(Supplier<T> work) {
+        if (isReplicaRead()) {
+            return work.get();
+        }
+        REPLICA_READ.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            REPLICA_READ.remove();
+        }
+    }
+}
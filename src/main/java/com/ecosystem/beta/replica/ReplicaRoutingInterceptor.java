@@ -0,0 +1,64 @@
+package com.ecosystem.beta.replica;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Set;
+
+public class ReplicaRoutingInterceptor implements MethodInterceptor {
+
+    static final Set<String> READ_METHODS = Set.of("getOrders", "getOrderProjections", "streamOrders",
+            "getOrderById", "getOrderProjection", "getOrderRevision");
+    static final Set<String> WRITE_METHODS = Set.of("createOrder", "createOrders", "updateOrder", "patchOrder",
+            "deleteOrder");
+
+    private final ReadYourWritesTracker tracker;
+    private final String clientHeader;
+
+    public ReplicaRoutingInterceptor(ReadYourWritesTracker tracker, String clientHeader) {
+        this.tracker = tracker;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        String name = invocation.getMethod().getName();
+        String client = currentClient();
+        if (READ_METHODS.contains(name)) {
+            if (client != null && tracker.wroteRecently(client)) {
+                return invocation.proceed();
+            }
+            return ReplicaContext.callOnReplica(() -> proceed(invocation));
+        }
+        try {
+            return invocation.proceed();
+        } finally {
+            if (client != null && WRITE_METHODS.contains(name)) {
+                tracker.recordWrite(client);
+            }
+        }
+    }
+
+    private String currentClient() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            String client = request.getHeader(clientHeader);
+            return client != null ? client : request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    private static Object proceed(MethodInvocation invocation) {
+        try {
+            return invocation.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+}
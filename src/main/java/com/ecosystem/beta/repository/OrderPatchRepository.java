@@ -0,0 +1,10 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.dto.OrderDto;
+
+import java.time.Instant;
+
+public interface OrderPatchRepository {
+
+    int patch(Long id, OrderDto changes, Long expectedVersion, Instant updatedAt);
+}
@@ -0,0 +1,51 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+class OrderPatchRepositoryImpl implements OrderPatchRepository {
+
+    private final EntityManager entityManager;
+
+    OrderPatchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional
+    public int patch(Long id, OrderDto changes, Long expectedVersion, Instant updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Order> update = cb.createCriteriaUpdate(Order.class);
+        Root<Order> order = update.from(Order.class);
+        setIfPresent(update, order, "userId", changes.userId());
+        setIfPresent(update, order, "productName", changes.productName());
+        setIfPresent(update, order, "quantity", changes.quantity());
+        setIfPresent(update, order, "totalPrice", changes.totalPrice());
+        setIfPresent(update, order, "status", changes.status());
+        update.set(order.<Instant>get("updatedAt"), updatedAt);
+        update.set(order.<Long>get("version"), cb.sum(order.<Long>get("version"), 1L));
+
+        Predicate matchesId = cb.equal(order.get("id"), id);
+        update.where(expectedVersion == null
+                ? matchesId
+                : cb.and(matchesId, cb.equal(order.get("version"), expectedVersion)));
+
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private static <T> void setIfPresent(CriteriaUpdate<Order> update, Root<Order> order, String attribute, T value) {
+        if (value != null) {
+            update.set(order.<T>get(attribute), value);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.model.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface OrderProjectionRepository {
+
+    List<Map<String, Object>> findProjected(Specification<Order> specification, Set<OrderField> fields, int limit);
+}
@@ -0,0 +1,57 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class OrderProjectionRepositoryImpl implements OrderProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    OrderProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Map<String, Object>> findProjected(Specification<Order> specification, Set<OrderField> fields,
+                                                   int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Order> order = query.from(Order.class);
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (OrderField field : fields) {
+            selections.add(order.get(field.attribute()));
+        }
+        query.multiselect(selections);
+        Predicate predicate = specification.toPredicate(order, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(order.get("id")));
+
+        List<Tuple> rows = entityManager.createQuery(query).setMaxResults(limit).getResultList();
+        List<Map<String, Object>> projections = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> projection = new LinkedHashMap<>(fields.size() * 2);
+            int column = 0;
+            for (OrderField field : fields) {
+                projection.put(field.attribute(), row.get(column++));
+            }
+            projections.add(projection);
+        }
+        return projections;
+    }
+}
@@ -1,9 +1,85 @@
 package com.ecosystem.beta.repository;
 
+import com.ecosystem.beta.dto.OrderAggregate;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderRevision;
 import com.ecosystem.beta.model.Order;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, JpaSpecificationExecutor<Order>,
+        OrderPatchRepository, OrderProjectionRepository, OrderStore {
+
+    @Override
+    Optional<Order> findById(Long id);
+
+    @Override
+    boolean existsById(Long id);
+
+    @Override
+    <S extends Order> S save(S order);
+
+    @Override
+    <S extends Order> List<S> saveAll(Iterable<S> orders);
+
+    @Override
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    @Override
+    default List<Order> findMatching(OrderFilter filter, Long after, Limit limit) {
+        return findBy(OrderSpecifications.matching(filter, after),
+                query -> query.sortBy(Sort.by("id")).limit(limit.max()).all());
+    }
+
+    @Override
+    default List<Map<String, Object>> findProjected(OrderFilter filter, Long after, Set<OrderField> fields,
+                                                    int limit) {
+        return findProjected(OrderSpecifications.matching(filter, after), fields, limit);
+    }
+
+    @Override
+    default Optional<Map<String, Object>> findProjectedById(Long id, Set<OrderField> fields) {
+        return findProjected(OrderSpecifications.withId(id), fields, 1).stream().findFirst();
+    }
+
+    @Override
+    @Query("select new com.ecosystem.beta.dto.OrderRevision(o.version, o.updatedAt) from Order o where o.id = :id")
+    Optional<OrderRevision> findRevisionById(Long id);
+
+    @Override
+    @Query("select new com.ecosystem.beta.dto.OrderAggregate(o.userId, o.status, count(o), sum(o.quantity), "
+            + "sum(o.totalPrice)) from Order o group by o.userId, o.status")
+    List<OrderAggregate> aggregateByUserIdAndStatus();
+
+    @Override
+    @Transactional
+    @Modifying
+    @Query("delete from Order o where o.id = :id and (o.version = :version or o.version is null)")
+    int deleteByIdAndVersion(Long id, Long version);
+
+    @Override
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    Stream<Order> streamAllByOrderByIdAsc();
 }
@@ -0,0 +1,45 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.model.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+
+public final class OrderSpecifications {
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> matching(OrderFilter filter, Long after) {
+        return Specification.where(idGreaterThan(after))
+                .and(hasUserId(filter.userId()))
+                .and(hasStatus(filter.status()))
+                .and(createdFrom(filter.createdFrom()))
+                .and(createdBefore(filter.createdTo()));
+    }
+
+    public static Specification<Order> withId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    private static Specification<Order> idGreaterThan(Long after) {
+        return after == null ? null : (root, query, cb) -> cb.greaterThan(root.get("id"), after);
+    }
+
+    private static Specification<Order> hasUserId(Long userId) {
+        return userId == null ? null : (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    private static Specification<Order> hasStatus(String status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    private static Specification<Order> createdFrom(Instant from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    private static Specification<Order> createdBefore(Instant to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+}
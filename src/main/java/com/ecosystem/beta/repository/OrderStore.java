@@ -0,0 +1,54 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.dto.OrderAggregate;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderRevision;
+import com.ecosystem.beta.model.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Repository
+public interface OrderStore {
+
+    Optional<Order> findById(Long id);
+
+    boolean existsById(Long id);
+
+    Optional<OrderRevision> findRevisionById(Long id);
+
+    <S extends Order> S save(S order);
+
+    <S extends Order> List<S> saveAll(Iterable<S> orders);
+
+    int patch(Long id, OrderDto changes, Long expectedVersion, Instant updatedAt);
+
+    int deleteByIdAndVersion(Long id, Long version);
+
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    List<Order> findMatching(OrderFilter filter, Long after, Limit limit);
+
+    List<Map<String, Object>> findProjected(OrderFilter filter, Long after, Set<OrderField> fields, int limit);
+
+    Optional<Map<String, Object>> findProjectedById(Long id, Set<OrderField> fields);
+
+    List<OrderAggregate> aggregateByUserIdAndStatus();
+
+    Stream<Order> streamAllByOrderByIdAsc();
+
+    default <S extends Order> void writeInGroups(List<S> orders, Consumer<List<S>> writer) {
+        if (!orders.isEmpty()) {
+            writer.accept(orders);
+        }
+    }
+}
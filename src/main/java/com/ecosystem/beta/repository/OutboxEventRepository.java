@@ -0,0 +1,21 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventStore {
+
+    @Override
+    <S extends OutboxEvent> List<S> saveAll(Iterable<S> events);
+
+    @Override
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+
+    @Override
+    List<OutboxEvent> findAllByOrderByIdAsc(Limit limit);
+}
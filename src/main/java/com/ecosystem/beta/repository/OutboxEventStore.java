@@ -0,0 +1,17 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OutboxEventStore {
+
+    <S extends OutboxEvent> List<S> saveAll(Iterable<S> events);
+
+    List<OutboxEvent> findAllByOrderByIdAsc(Limit limit);
+
+    void deleteAllByIdInBatch(Iterable<Long> ids);
+}
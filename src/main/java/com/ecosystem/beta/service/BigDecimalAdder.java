@@ -0,0 +1,56 @@
+package com.ecosystem.beta.service;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class BigDecimalAdder {
+
+    private static final int STRIPES = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+
+    private final AtomicReference<BigDecimal> base = new AtomicReference<>(BigDecimal.ZERO);
+    private volatile AtomicReferenceArray<BigDecimal> cells;
+
+    void add(BigDecimal value) {
+        AtomicReferenceArray<BigDecimal> stripes = cells;
+        if (stripes == null) {
+            BigDecimal current = base.get();
+            if (base.compareAndSet(current, current.add(value))) {
+                return;
+            }
+            stripes = expand();
+        }
+        int index = stripeIndex(stripes.length());
+        BigDecimal current;
+        do {
+            current = stripes.get(index);
+        } while (!stripes.compareAndSet(index, current, current.add(value)));
+    }
+
+    BigDecimal sum() {
+        BigDecimal sum = base.get();
+        AtomicReferenceArray<BigDecimal> stripes = cells;
+        if (stripes != null) {
+            for (int i = 0; i < stripes.length(); i++) {
+                sum = sum.add(stripes.get(i));
+            }
+        }
+        return sum;
+    }
+
+    private synchronized AtomicReferenceArray<BigDecimal> expand() {
+        if (cells == null) {
+            AtomicReferenceArray<BigDecimal> stripes = new AtomicReferenceArray<>(STRIPES);
+            for (int i = 0; i < STRIPES; i++) {
+                stripes.set(i, BigDecimal.ZERO);
+            }
+            cells = stripes;
+        }
+        return cells;
+    }
+
+    private static int stripeIndex(int stripes) {
+        long id = Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L;
+        return (int) (id >>> 32) & (stripes - 1);
+    }
+}
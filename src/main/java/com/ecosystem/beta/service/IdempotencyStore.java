@@ -0,0 +1,85 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.common.exception.UnprocessableEntityException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+@Component
+public class IdempotencyStore {
+
+    private final Cache<Key, Execution> cache;
+    private final Counter replays;
+
+    @Autowired
+    public IdempotencyStore(@Value("${orders.idempotency.enabled:true}") boolean enabled,
+                            @Value("${orders.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${orders.idempotency.ttl:24h}") Duration ttl,
+                            MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, ttl, meterRegistry, Ticker.systemTicker());
+    }
+
+    IdempotencyStore(boolean enabled, long maximumSize, Duration ttl, MeterRegistry meterRegistry, Ticker ticker) {
+        this.cache = enabled ? Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .build() : null;
+        this.replays = meterRegistry.counter("orders.idempotency.replays");
+    }
+
+    public <T> T execute(String client, String key, Object request, Supplier<T> action) {
+        if (cache == null || key == null) {
+            return action.get();
+        }
+        Key scopedKey = new Key(client, key);
+        Execution execution = new Execution(request, new CompletableFuture<>());
+        Execution existing = cache.asMap().putIfAbsent(scopedKey, execution);
+        if (existing != null) {
+            return replay(key, existing, request);
+        }
+        try {
+            T result = action.get();
+            execution.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            cache.asMap().remove(scopedKey, execution);
+            execution.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T replay(String key, Execution existing, Object request) {
+        if (!existing.request.equals(request)) {
+            throw UnprocessableEntityException.stackless(
+                    "Idempotency-Key " + key + " was already used with a different request");
+        }
+        try {
+            T result = (T) existing.result.join();
+            replays.increment();
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private record Key(String client, String key) {
+    }
+
+    private record Execution(Object request, CompletableFuture<Object> result) {
+    }
+}
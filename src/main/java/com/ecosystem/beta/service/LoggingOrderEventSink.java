@@ -0,0 +1,19 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LoggingOrderEventSink implements OrderEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOrderEventSink.class);
+
+    @Override
+    public void publish(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            log.debug("Order event {} {} for order {}: {}", event.id(), event.type(), event.orderId(), event.payload());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+public class OrderCache {
+
+    static final String CACHE_NAME = "orders";
+
+    private final Cache<Long, OrderDto> cache;
+
+    @Autowired
+    public OrderCache(@Value("${orders.cache.enabled:true}") boolean enabled,
+                      @Value("${orders.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${orders.cache.ttl:10m}") Duration ttl,
+                      MeterRegistry meterRegistry) {
+        this(enabled, maximumSize, ttl, meterRegistry, Ticker.systemTicker());
+    }
+
+    OrderCache(boolean enabled, long maximumSize, Duration ttl, MeterRegistry meterRegistry, Ticker ticker) {
+        this.cache = enabled ? buildCache(maximumSize, ttl, ticker, meterRegistry) : null;
+    }
+
+    public Optional<OrderDto> get(Long id, Function<Long, Optional<OrderDto>> loader) {
+        if (cache == null) {
+            return loader.apply(id);
+        }
+        return Optional.ofNullable(cache.get(id, key -> loader.apply(key).orElse(null)));
+    }
+
+    public Optional<OrderDto> getIfPresent(Long id) {
+        return cache == null ? Optional.empty() : Optional.ofNullable(cache.getIfPresent(id));
+    }
+
+    public void put(OrderDto order) {
+        if (cache != null) {
+            cache.put(order.id(), order);
+        }
+    }
+
+    public void invalidate(Long id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    private static Cache<Long, OrderDto> buildCache(long maximumSize, Duration ttl, Ticker ticker,
+                                                    MeterRegistry meterRegistry) {
+        Cache<Long, OrderDto> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+}
@@ -0,0 +1,231 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderChange;
+import com.ecosystem.common.exception.GoneException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+public class OrderChangeFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderChangeFeed.class);
+    private static final int MAX_BATCH = 500;
+
+    private final OrderChangeLog changeLog;
+    private final Duration heartbeatInterval;
+    private final Duration emitterTimeout;
+    private final Duration sendTimeout;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("order-change-sender-", 0).factory());
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public OrderChangeFeed(OrderChangeLog changeLog,
+                           @Value("${orders.changes.heartbeat-interval:15s}") Duration heartbeatInterval,
+                           @Value("${orders.changes.emitter-timeout:30m}") Duration emitterTimeout,
+                           @Value("${orders.changes.send-timeout:10s}") Duration sendTimeout,
+                           MeterRegistry meterRegistry) {
+        this.changeLog = changeLog;
+        this.heartbeatInterval = heartbeatInterval;
+        this.emitterTimeout = emitterTimeout;
+        this.sendTimeout = sendTimeout;
+        meterRegistry.gaugeCollectionSize("orders.changes.subscribers", List.of(), subscribers);
+    }
+
+    public SseEmitter subscribe(Long since) {
+        return subscribe(since, new SseEmitter(emitterTimeout.toMillis()));
+    }
+
+    SseEmitter subscribe(Long since, SseEmitter emitter) {
+        long cursor = since == null ? changeLog.latestOffset() : since;
+        if (!changeLog.isRetained(cursor)) {
+            throw GoneException.stackless("Change offset " + cursor + " is no longer retained");
+        }
+        Subscriber subscriber = new Subscriber(emitter, cursor);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber, false);
+        return emitter;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform().name("order-change-feed").daemon().start(this::dispatch);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+            dispatcher = null;
+        }
+        subscribers.forEach(subscriber -> close(subscriber, null));
+        senders.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void dispatch() {
+        long seen = changeLog.latestOffset();
+        long lastChange = System.nanoTime();
+        Duration wait = heartbeatInterval.compareTo(sendTimeout) < 0 ? heartbeatInterval : sendTimeout;
+        while (running) {
+            try {
+                changeLog.awaitAfter(seen, wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long now = System.nanoTime();
+            long latest = changeLog.latestOffset();
+            boolean heartbeat = false;
+            if (latest != seen) {
+                seen = latest;
+                lastChange = now;
+            } else if (now - lastChange >= heartbeatInterval.toNanos()) {
+                heartbeat = true;
+                lastChange = now;
+            }
+            for (Subscriber subscriber : subscribers) {
+                long sendStarted = subscriber.sendStarted;
+                if (sendStarted != 0 && now - sendStarted >= sendTimeout.toNanos()) {
+                    close(subscriber, new IOException("Change feed send timed out after " + sendTimeout));
+                } else if (subscriber.sending.get() && !changeLog.isRetained(subscriber.cursor)) {
+                    close(subscriber, new IOException("Change feed subscriber fell out of the retained backlog"));
+                } else {
+                    schedule(subscriber, heartbeat);
+                }
+            }
+        }
+    }
+
+    private void close(Subscriber subscriber, IOException reason) {
+        subscriber.closeReason = reason;
+        subscribers.remove(subscriber);
+        if (subscriber.sending.compareAndSet(false, true)) {
+            complete(subscriber);
+            return;
+        }
+        Thread sender = subscriber.sender;
+        if (sender != null) {
+            sender.interrupt();
+        }
+    }
+
+    private static void complete(Subscriber subscriber) {
+        try {
+            if (subscriber.closeReason == null) {
+                subscriber.emitter.complete();
+            } else {
+                subscriber.emitter.completeWithError(subscriber.closeReason);
+            }
+        } catch (IllegalStateException e) {
+            log.debug("Change feed stream was already closed", e);
+        }
+    }
+
+    private void schedule(Subscriber subscriber, boolean heartbeat) {
+        if (heartbeat) {
+            subscriber.heartbeatDue = true;
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        subscriber.sender = Thread.currentThread();
+        try {
+            do {
+                boolean heartbeat = subscriber.heartbeatDue;
+                subscriber.heartbeatDue = false;
+                deliver(subscriber, heartbeat);
+                subscriber.sending.set(false);
+            } while (subscribers.contains(subscriber) && hasPending(subscriber)
+                    && subscriber.sending.compareAndSet(false, true));
+        } finally {
+            subscriber.sender = null;
+        }
+        if (!subscribers.contains(subscriber) && subscriber.sending.compareAndSet(false, true)) {
+            complete(subscriber);
+        }
+    }
+
+    private boolean hasPending(Subscriber subscriber) {
+        return subscriber.heartbeatDue || changeLog.latestOffset() > subscriber.cursor;
+    }
+
+    private void deliver(Subscriber subscriber, boolean heartbeat) {
+        try {
+            List<OrderChange> changes = changeLog.readAfter(subscriber.cursor, MAX_BATCH);
+            while (!changes.isEmpty()) {
+                for (OrderChange change : changes) {
+                    if (!subscribers.contains(subscriber)) {
+                        return;
+                    }
+                    send(subscriber, SseEmitter.event()
+                            .id(String.valueOf(change.offset()))
+                            .data(change, MediaType.APPLICATION_JSON));
+                    subscriber.cursor = change.offset();
+                }
+                changes = changeLog.readAfter(subscriber.cursor, MAX_BATCH);
+            }
+            if (heartbeat) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (GoneException e) {
+            subscribers.remove(subscriber);
+        } catch (IOException | IllegalStateException e) {
+            subscriber.closeReason = e instanceof IOException io ? io : new IOException(e);
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private static void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStarted = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStarted = 0;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long cursor;
+        private volatile boolean heartbeatDue;
+        private volatile long sendStarted;
+        private volatile Thread sender;
+        private volatile IOException closeReason;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderChange;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.common.exception.GoneException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class OrderChangeLog {
+
+    private final OrderChange[] backlog;
+    private long latestOffset;
+
+    public OrderChangeLog(@Value("${orders.changes.backlog-size:10000}") int backlogSize) {
+        this.backlog = new OrderChange[backlogSize];
+    }
+
+    public synchronized long append(OrderChange.Type type, Long orderId, OrderDto order) {
+        long offset = ++latestOffset;
+        backlog[slot(offset)] = new OrderChange(offset, type, orderId, order, Instant.now());
+        notifyAll();
+        return offset;
+    }
+
+    public synchronized long latestOffset() {
+        return latestOffset;
+    }
+
+    public synchronized boolean isRetained(long offset) {
+        return offset >= oldestOffset() - 1 && offset <= latestOffset;
+    }
+
+    public synchronized List<OrderChange> readAfter(long offset, int max) {
+        if (!isRetained(offset)) {
+            throw GoneException.stackless("Change offset " + offset + " is no longer retained");
+        }
+        int count = (int) Math.min(max, latestOffset - offset);
+        List<OrderChange> changes = new ArrayList<>(count);
+        for (long next = offset + 1; next <= offset + count; next++) {
+            changes.add(backlog[slot(next)]);
+        }
+        return changes;
+    }
+
+    public synchronized void awaitAfter(long offset, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long remaining = timeout.toNanos();
+        while (latestOffset <= offset && remaining > 0) {
+            wait(Math.max(1, remaining / 1_000_000));
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private long oldestOffset() {
+        return Math.max(1, latestOffset - backlog.length + 1);
+    }
+
+    private int slot(long offset) {
+        return (int) (offset % backlog.length);
+    }
+}
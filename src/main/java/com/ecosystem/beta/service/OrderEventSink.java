@@ -0,0 +1,10 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderEvent;
+
+import java.util.List;
+
+public interface OrderEventSink {
+
+    void publish(List<OrderEvent> events);
+}
@@ -0,0 +1,46 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.model.OutboxEvent;
+import com.ecosystem.beta.repository.OutboxEventStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class OrderOutbox {
+
+    static final String ORDER_CREATED = "OrderCreated";
+
+    private final OutboxEventStore outboxEventStore;
+    private final ObjectMapper objectMapper;
+
+    public OrderOutbox(OutboxEventStore outboxEventStore, ObjectMapper objectMapper) {
+        this.outboxEventStore = outboxEventStore;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(List<OrderDto> orders) {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = new ArrayList<>(orders.size());
+        for (OrderDto order : orders) {
+            events.add(new OutboxEvent(ORDER_CREATED, order.id(), toJson(order), now));
+        }
+        outboxEventStore.saveAll(events);
+    }
+
+    private String toJson(OrderDto order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order " + order.id(), e);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderSubmission;
+import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class OrderPipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderPipeline.class);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+    private static final TooManyRequestsException QUEUE_FULL =
+            TooManyRequestsException.stackless("Order queue is full, retry later");
+
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<PendingOrder> queue;
+    private final Cache<String, OrderSubmission> submissions;
+    private final Counter rejectedSubmissions;
+    private volatile boolean running;
+    private Thread worker;
+
+    public OrderPipeline(OrderService orderService,
+                         @Value("${orders.async.enabled:false}") boolean enabled,
+                         @Value("${orders.async.queue-capacity:10000}") int queueCapacity,
+                         @Value("${orders.async.batch-size:100}") int batchSize,
+                         @Value("${orders.async.status-retention:1h}") Duration statusRetention,
+                         @Value("${orders.async.status-maximum-size:100000}") long statusMaximumSize,
+                         MeterRegistry meterRegistry) {
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.submissions = Caffeine.newBuilder()
+                .maximumSize(statusMaximumSize)
+                .expireAfterWrite(statusRetention)
+                .build();
+        this.rejectedSubmissions = meterRegistry.counter("orders.pipeline.rejected");
+        meterRegistry.gauge("orders.pipeline.queue.size", queue, BlockingQueue::size);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public OrderSubmission submit(OrderDto orderDto) {
+        String trackingId = UUID.randomUUID().toString();
+        OrderSubmission submission = OrderSubmission.pending(trackingId);
+        submissions.put(trackingId, submission);
+        if (!queue.offer(new PendingOrder(trackingId, orderDto))) {
+            submissions.invalidate(trackingId);
+            rejectedSubmissions.increment();
+            throw QUEUE_FULL;
+        }
+        return submission;
+    }
+
+    public OrderSubmission getSubmission(String trackingId) {
+        OrderSubmission submission = submissions.getIfPresent(trackingId);
+        if (submission == null) {
+            throw NotFoundException.stackless("Order submission not found with id: " + trackingId);
+        }
+        return submission;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            worker = Thread.ofPlatform().name("order-pipeline").daemon().start(this::drain);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drain() {
+        List<PendingOrder> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingOrder first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void process(List<PendingOrder> batch) {
+        try {
+            List<OrderBatchItemResult> results = orderService.createOrders(batch.stream().map(PendingOrder::order));
+            for (OrderBatchItemResult result : results) {
+                String trackingId = batch.get(result.index()).trackingId();
+                submissions.put(trackingId, toSubmission(trackingId, result));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to process order batch of {}", batch.size(), e);
+            for (PendingOrder pending : batch) {
+                submissions.put(pending.trackingId(), new OrderSubmission(pending.trackingId(),
+                        OrderSubmission.State.FAILED, null, e.getMessage()));
+            }
+        }
+    }
+
+    private static OrderSubmission toSubmission(String trackingId, OrderBatchItemResult result) {
+        OrderSubmission.State state;
+        if (result.status() == HttpStatus.CREATED.value()) {
+            state = OrderSubmission.State.CREATED;
+        } else if (HttpStatus.valueOf(result.status()).is4xxClientError()) {
+            state = OrderSubmission.State.REJECTED;
+        } else {
+            state = OrderSubmission.State.FAILED;
+        }
+        return new OrderSubmission(trackingId, state, result.order(), result.message());
+    }
+
+    record PendingOrder(String trackingId, OrderDto order) {}
+}
@@ -1,18 +1,40 @@
 package com.ecosystem.beta.service;
 
+import com.ecosystem.beta.dto.OrderBatchItemResult;
 import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.dto.OrderProjectionPage;
+import com.ecosystem.beta.dto.OrderRevision;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface OrderService {
 
-    List<OrderDto> getAllOrders();
+    OrderPage getOrders(OrderFilter filter, Long after, int limit);
+
+    OrderProjectionPage getOrderProjections(OrderFilter filter, Long after, int limit, Set<OrderField> fields);
+
+    void streamOrders(OrderFilter filter, Long after, Consumer<OrderDto> consumer);
 
     OrderDto getOrderById(Long id);
 
+    Map<String, Object> getOrderProjection(Long id, Set<OrderField> fields);
+
+    OrderRevision getOrderRevision(Long id);
+
     OrderDto createOrder(OrderDto orderDto);
 
-    OrderDto updateOrder(Long id, OrderDto orderDto);
+    List<OrderBatchItemResult> createOrders(Stream<OrderDto> orderDtos);
+
+    OrderDto updateOrder(Long id, OrderDto orderDto, Long expectedVersion);
+
+    OrderDto patchOrder(Long id, OrderDto changes, Long expectedVersion);
 
     void deleteOrder(Long id);
 }
@@ -1,38 +1,158 @@
 package com.ecosystem.beta.service;
 
+import com.ecosystem.beta.client.UserLookupResult;
 import com.ecosystem.beta.client.UserServiceClient;
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderChange;
 import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.dto.OrderProjectionPage;
+import com.ecosystem.beta.dto.OrderRevision;
 import com.ecosystem.beta.model.Order;
-import com.ecosystem.beta.repository.OrderRepository;
+import com.ecosystem.beta.replica.ReplicaContext;
+import com.ecosystem.beta.repository.OrderStore;
+import com.ecosystem.common.exception.ConflictException;
 import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.PreconditionFailedException;
+import com.ecosystem.common.exception.ServiceUnavailableException;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 public class OrderServiceImpl implements OrderService {
 
-    private final OrderRepository orderRepository;
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int STREAM_PAGE_SIZE = 500;
+
+    private static final Logger log = LoggerFactory.getLogger(OrderServiceImpl.class);
+
+    private final OrderStore orderStore;
     private final UserServiceClient userServiceClient;
+    private final EntityManager entityManager;
+    private final OrderCache orderCache;
+    private final OrderChangeLog changeLog;
+    private final OrderOutbox orderOutbox;
+    private final OrderStatistics statistics;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchChunkSize;
 
-    public OrderServiceImpl(OrderRepository orderRepository, UserServiceClient userServiceClient) {
-        this.orderRepository = orderRepository;
+    public OrderServiceImpl(OrderStore orderStore, UserServiceClient userServiceClient,
+                            EntityManager entityManager, OrderCache orderCache, OrderChangeLog changeLog,
+                            OrderOutbox orderOutbox, OrderStatistics statistics,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${orders.batch.chunk-size:500}") int batchChunkSize) {
+        this.orderStore = orderStore;
         this.userServiceClient = userServiceClient;
+        this.entityManager = entityManager;
+        this.orderCache = orderCache;
+        this.changeLog = changeLog;
+        this.orderOutbox = orderOutbox;
+        this.statistics = statistics;
+        this.transactionTemplate = transactionTemplate;
+        this.batchChunkSize = batchChunkSize;
     }
 
     @Override
-    public List<OrderDto> getAllOrders() {
-        return orderRepository.findAll().stream()
-                .map(this::toDto)
+    public OrderPage getOrders(OrderFilter filter, Long after, int limit) {
+        int pageSize = pageSize(limit);
+        List<Order> page = filter.isEmpty()
+                ? orderStore.findByIdGreaterThanOrderByIdAsc(after == null ? 0L : after, Limit.of(pageSize))
+                : orderStore.findMatching(filter, after, Limit.of(pageSize));
+        List<OrderDto> orders = page.stream()
+                .map(OrderServiceImpl::toDto)
                 .toList();
+        Long nextAfter = orders.size() == pageSize ? orders.get(orders.size() - 1).id() : null;
+        return new OrderPage(orders, nextAfter);
+    }
+
+    @Override
+    public OrderProjectionPage getOrderProjections(OrderFilter filter, Long after, int limit, Set<OrderField> fields) {
+        int pageSize = pageSize(limit);
+        List<Map<String, Object>> orders = orderStore.findProjected(filter, after, fields, pageSize);
+        Long nextAfter = orders.size() == pageSize
+                ? (Long) orders.get(orders.size() - 1).get(OrderField.ID.attribute())
+                : null;
+        return new OrderProjectionPage(orders, nextAfter);
+    }
+
+    private static int pageSize(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamOrders(OrderFilter filter, Long after, Consumer<OrderDto> consumer) {
+        if (filter.isEmpty() && after == null) {
+            try (Stream<Order> orders = orderStore.streamAllByOrderByIdAsc()) {
+                orders.forEach(order -> emit(order, consumer));
+            }
+            return;
+        }
+        Long cursor = after;
+        List<Order> page;
+        do {
+            page = orderStore.findMatching(filter, cursor, Limit.of(STREAM_PAGE_SIZE));
+            page.forEach(order -> emit(order, consumer));
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == STREAM_PAGE_SIZE);
+    }
+
+    private void emit(Order order, Consumer<OrderDto> consumer) {
+        consumer.accept(toDto(order));
+        entityManager.detach(order);
     }
 
     @Override
     public OrderDto getOrderById(Long id) {
-        return orderRepository.findById(id)
-                .map(this::toDto)
-                .orElseThrow(() -> new NotFoundException("Order not found with id: " + id));
+        Function<Long, Optional<OrderDto>> loader = key -> orderStore.findById(key).map(OrderServiceImpl::toDto);
+        Optional<OrderDto> order = ReplicaContext.isReplicaRead()
+                ? orderCache.getIfPresent(id).or(() -> loader.apply(id))
+                : orderCache.get(id, loader);
+        return order.orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
+    }
+
+    @Override
+    public Map<String, Object> getOrderProjection(Long id, Set<OrderField> fields) {
+        Optional<OrderDto> cached = orderCache.getIfPresent(id);
+        if (cached.isPresent()) {
+            return OrderField.project(cached.get(), fields);
+        }
+        return orderStore.findProjectedById(id, fields)
+                .orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
+    }
+
+    @Override
+    public OrderRevision getOrderRevision(Long id) {
+        return orderCache.getIfPresent(id)
+                .map(order -> new OrderRevision(order.version(), order.updatedAt()))
+                .or(() -> orderStore.findRevisionById(id))
+                .orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
     }
 
     @Override
@@ -41,31 +161,222 @@ public class OrderServiceImpl implements OrderService {
         Order order = toEntity(orderDto);
         order.setCreatedAt(Instant.now());
         order.setUpdatedAt(Instant.now());
-        return toDto(orderRepository.save(order));
+        OrderDto created = transactionTemplate.execute(status -> {
+            OrderDto saved = toDto(orderStore.save(order));
+            orderOutbox.recordCreated(List.of(saved));
+            return saved;
+        });
+        orderCache.put(created);
+        statistics.recordCreated(created);
+        changeLog.append(OrderChange.Type.CREATED, created.id(), created);
+        return created;
     }
 
     @Override
-    public OrderDto updateOrder(Long id, OrderDto orderDto) {
-        Order existing = orderRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("Order not found with id: " + id));
+    public List<OrderBatchItemResult> createOrders(Stream<OrderDto> orderDtos) {
+        List<OrderBatchItemResult> results = new ArrayList<>();
+        Map<Long, Boolean> knownUsers = new HashMap<>();
+        Iterator<OrderDto> iterator = orderDtos.iterator();
+        List<OrderDto> chunk = new ArrayList<>(batchChunkSize);
+        while (true) {
+            OrderDto next;
+            try {
+                if (!iterator.hasNext()) {
+                    break;
+                }
+                next = iterator.next();
+            } catch (RuntimeException e) {
+                log.warn("Stopped reading order batch at index {}", results.size() + chunk.size(), e);
+                if (!chunk.isEmpty()) {
+                    results.addAll(createChunk(results.size(), chunk, knownUsers));
+                }
+                results.add(rejected(results.size(), HttpStatus.BAD_REQUEST,
+                        "Malformed order, remaining items were not read"));
+                return results;
+            }
+            chunk.add(next);
+            if (chunk.size() == batchChunkSize) {
+                results.addAll(createChunk(results.size(), chunk, knownUsers));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(createChunk(results.size(), chunk, knownUsers));
+        }
+        return results;
+    }
+
+    private List<OrderBatchItemResult> createChunk(int firstIndex, List<OrderDto> chunk, Map<Long, Boolean> knownUsers) {
+        List<Long> unseenUserIds = chunk.stream()
+                .map(OrderDto::userId)
+                .filter(userId -> userId != null && !knownUsers.containsKey(userId))
+                .distinct()
+                .toList();
+        if (!unseenUserIds.isEmpty()) {
+            try {
+                UserLookupResult users = userServiceClient.getUsersByIds(unseenUserIds);
+                users.found().keySet().forEach(userId -> knownUsers.put(userId, true));
+                users.missing().forEach(userId -> knownUsers.put(userId, false));
+            } catch (ServiceUnavailableException e) {
+                log.warn("Could not check users for order batch starting at index {}", firstIndex, e);
+            }
+        }
+
+        OrderBatchItemResult[] results = new OrderBatchItemResult[chunk.size()];
+        List<Order> accepted = new ArrayList<>(chunk.size());
+        Map<Order, Integer> positions = new IdentityHashMap<>();
+        Instant now = Instant.now();
+        for (int i = 0; i < chunk.size(); i++) {
+            OrderDto dto = chunk.get(i);
+            if (dto.userId() == null) {
+                results[i] = rejected(firstIndex + i, HttpStatus.BAD_REQUEST, "userId is required");
+            } else if (!knownUsers.containsKey(dto.userId())) {
+                results[i] = rejected(firstIndex + i, HttpStatus.SERVICE_UNAVAILABLE,
+                        "Could not check user with id: " + dto.userId());
+            } else if (!knownUsers.get(dto.userId())) {
+                results[i] = rejected(firstIndex + i, HttpStatus.NOT_FOUND, "User not found with id: " + dto.userId());
+            } else {
+                Order order = toEntity(dto);
+                order.setCreatedAt(now);
+                order.setUpdatedAt(now);
+                accepted.add(order);
+                positions.put(order, i);
+            }
+        }
+
+        orderStore.writeInGroups(accepted, group -> persistChunk(firstIndex, group, positions, results));
+        return List.of(results);
+    }
+
+    private void persistChunk(int firstIndex, List<Order> accepted, Map<Order, Integer> positions,
+                              OrderBatchItemResult[] results) {
+        try {
+            List<OrderDto> saved = transactionTemplate.execute(status -> {
+                List<OrderDto> created = orderStore.saveAll(accepted).stream()
+                        .map(OrderServiceImpl::toDto)
+                        .toList();
+                orderOutbox.recordCreated(created);
+                return created;
+            });
+            for (int i = 0; i < accepted.size(); i++) {
+                int position = positions.get(accepted.get(i));
+                OrderDto created = saved.get(i);
+                results[position] = new OrderBatchItemResult(firstIndex + position, HttpStatus.CREATED.value(),
+                        created, null);
+                statistics.recordCreated(created);
+                changeLog.append(OrderChange.Type.CREATED, created.id(), created);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to persist order batch starting at index {}", firstIndex, e);
+            for (Order order : accepted) {
+                int position = positions.get(order);
+                results[position] = rejected(firstIndex + position, HttpStatus.INTERNAL_SERVER_ERROR,
+                        "Failed to persist order");
+            }
+        }
+    }
+
+    private static OrderBatchItemResult rejected(int index, HttpStatus status, String message) {
+        return new OrderBatchItemResult(index, status.value(), null, message);
+    }
+
+    @Override
+    public OrderDto updateOrder(Long id, OrderDto orderDto, Long expectedVersion) {
+        Order existing = orderStore.findById(id)
+                .orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+            throw PreconditionFailedException.stackless("Order has been modified since version " + expectedVersion);
+        }
+        OrderDto before = toDto(existing);
         existing.setUserId(orderDto.userId());
         existing.setProductName(orderDto.productName());
         existing.setQuantity(orderDto.quantity());
         existing.setTotalPrice(orderDto.totalPrice());
         existing.setStatus(orderDto.status());
         existing.setUpdatedAt(Instant.now());
-        return toDto(orderRepository.save(existing));
+        OrderDto updated;
+        try {
+            updated = toDto(orderStore.save(existing));
+        } catch (OptimisticLockingFailureException e) {
+            throw ConflictException.stackless("Order was modified concurrently: " + id);
+        }
+        orderCache.put(updated);
+        statistics.recordUpdated(before, updated);
+        changeLog.append(OrderChange.Type.UPDATED, id, updated);
+        return updated;
+    }
+
+    @Override
+    public OrderDto patchOrder(Long id, OrderDto changes, Long expectedVersion) {
+        if (!affectsStatistics(changes)) {
+            if (orderStore.patch(id, changes, expectedVersion, Instant.now()) == 0) {
+                throw patchRejected(id, expectedVersion);
+            }
+            return patched(id);
+        }
+        while (true) {
+            OrderDto before = orderStore.findById(id)
+                    .map(OrderServiceImpl::toDto)
+                    .orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
+            if (expectedVersion != null && !expectedVersion.equals(before.version())) {
+                orderCache.invalidate(id);
+                throw PreconditionFailedException.stackless("Order has been modified since version " + expectedVersion);
+            }
+            if (orderStore.patch(id, changes, before.version(), Instant.now()) == 1) {
+                statistics.recordUpdated(before, merge(before, changes));
+                return patched(id);
+            }
+        }
+    }
+
+    private static boolean affectsStatistics(OrderDto changes) {
+        return changes.userId() != null || changes.status() != null
+                || changes.quantity() != null || changes.totalPrice() != null;
+    }
+
+    private RuntimeException patchRejected(Long id, Long expectedVersion) {
+        orderCache.invalidate(id);
+        if (!orderStore.existsById(id)) {
+            return NotFoundException.stackless("Order not found with id: " + id);
+        }
+        return PreconditionFailedException.stackless("Order has been modified since version " + expectedVersion);
+    }
+
+    private static OrderDto merge(OrderDto before, OrderDto changes) {
+        return new OrderDto(before.id(),
+                changes.userId() != null ? changes.userId() : before.userId(),
+                changes.productName() != null ? changes.productName() : before.productName(),
+                changes.quantity() != null ? changes.quantity() : before.quantity(),
+                changes.totalPrice() != null ? changes.totalPrice() : before.totalPrice(),
+                changes.status() != null ? changes.status() : before.status(),
+                before.createdAt(), before.updatedAt(), before.version());
+    }
+
+    private OrderDto patched(Long id) {
+        OrderDto patched = orderStore.findById(id)
+                .map(OrderServiceImpl::toDto)
+                .orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
+        orderCache.put(patched);
+        changeLog.append(OrderChange.Type.UPDATED, id, patched);
+        return patched;
     }
 
     @Override
     public void deleteOrder(Long id) {
-        if (!orderRepository.existsById(id)) {
-            throw new NotFoundException("Order not found with id: " + id);
+        while (true) {
+            OrderDto existing = orderStore.findById(id)
+                    .map(OrderServiceImpl::toDto)
+                    .orElseThrow(() -> NotFoundException.stackless("Order not found with id: " + id));
+            if (orderStore.deleteByIdAndVersion(id, existing.version()) == 1) {
+                orderCache.invalidate(id);
+                statistics.recordDeleted(existing);
+                changeLog.append(OrderChange.Type.DELETED, id, null);
+                return;
+            }
         }
-        orderRepository.deleteById(id);
     }
 
-    private OrderDto toDto(Order order) {
+    static OrderDto toDto(Order order) {
         return new OrderDto(
                 order.getId(),
                 order.getUserId(),
@@ -74,11 +385,12 @@ public class OrderServiceImpl implements OrderService {
                 order.getTotalPrice(),
                 order.getStatus(),
                 order.getCreatedAt(),
-                order.getUpdatedAt()
+                order.getUpdatedAt(),
+                order.getVersion()
         );
     }
 
-    private Order toEntity(OrderDto dto) {
+    static Order toEntity(OrderDto dto) {
         Order order = new Order();
         order.setUserId(dto.userId());
         order.setProductName(dto.productName());
@@ -0,0 +1,141 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderAggregate;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderStats;
+import com.ecosystem.beta.dto.OrderTotals;
+import com.ecosystem.beta.repository.OrderStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@Lazy(false)
+public class OrderStatistics implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderStatistics.class);
+
+    private final OrderStore orderStore;
+    private final Totals total = new Totals();
+    private final ConcurrentHashMap<String, Totals> byStatus = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Totals> byUser = new ConcurrentHashMap<>();
+
+    public OrderStatistics(OrderStore orderStore) {
+        this.orderStore = orderStore;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    void rebuild() {
+        long groups = 0;
+        for (OrderAggregate aggregate : orderStore.aggregateByUserIdAndStatus()) {
+            long count = aggregate.count();
+            long quantity = aggregate.quantity() == null ? 0 : aggregate.quantity();
+            BigDecimal revenue = aggregate.revenue() == null ? BigDecimal.ZERO : aggregate.revenue();
+            total.add(count, quantity, revenue);
+            if (aggregate.status() != null) {
+                byStatus.computeIfAbsent(aggregate.status(), key -> new Totals()).add(count, quantity, revenue);
+            }
+            if (aggregate.userId() != null) {
+                addToUser(aggregate.userId(), count, quantity, revenue);
+            }
+            groups++;
+        }
+        log.info("Rebuilt order statistics from {} user/status groups", groups);
+    }
+
+    public void recordCreated(OrderDto order) {
+        apply(order, 1);
+    }
+
+    public void recordUpdated(OrderDto before, OrderDto after) {
+        if (!Objects.equals(before.userId(), after.userId())
+                || !Objects.equals(before.status(), after.status())
+                || !Objects.equals(before.quantity(), after.quantity())
+                || !Objects.equals(before.totalPrice(), after.totalPrice())) {
+            apply(before, -1);
+            apply(after, 1);
+        }
+    }
+
+    public void recordDeleted(OrderDto order) {
+        apply(order, -1);
+    }
+
+    public OrderStats snapshot(Long userId) {
+        Map<String, OrderTotals> statuses = new TreeMap<>();
+        byStatus.forEach((status, totals) -> putIfNotEmpty(statuses, status, totals));
+        Map<Long, OrderTotals> users = new TreeMap<>();
+        if (userId != null) {
+            Totals totals = byUser.get(userId);
+            if (totals != null) {
+                putIfNotEmpty(users, userId, totals);
+            }
+        }
+        return new OrderStats(total.snapshot(), statuses, users);
+    }
+
+    int trackedUsers() {
+        return byUser.size();
+    }
+
+    private void apply(OrderDto order, int sign) {
+        long quantity = order.quantity() == null ? 0 : order.quantity();
+        BigDecimal revenue = order.totalPrice() == null ? BigDecimal.ZERO : order.totalPrice();
+        if (sign < 0) {
+            quantity = -quantity;
+            revenue = revenue.negate();
+        }
+        total.add(sign, quantity, revenue);
+        if (order.status() != null) {
+            byStatus.computeIfAbsent(order.status(), key -> new Totals()).add(sign, quantity, revenue);
+        }
+        if (order.userId() != null) {
+            addToUser(order.userId(), sign, quantity, revenue);
+        }
+    }
+
+    private void addToUser(Long userId, long orders, long units, BigDecimal amount) {
+        byUser.compute(userId, (key, totals) -> {
+            Totals updated = totals == null ? new Totals() : totals;
+            updated.add(orders, units, amount);
+            return updated.count.sum() == 0 ? null : updated;
+        });
+    }
+
+    private static <K> void putIfNotEmpty(Map<K, OrderTotals> target, K key, Totals totals) {
+        OrderTotals snapshot = totals.snapshot();
+        if (snapshot.count() != 0) {
+            target.put(key, snapshot);
+        }
+    }
+
+    private static final class Totals {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder quantity = new LongAdder();
+        private final BigDecimalAdder revenue = new BigDecimalAdder();
+
+        void add(long orders, long units, BigDecimal amount) {
+            count.add(orders);
+            quantity.add(units);
+            revenue.add(amount);
+        }
+
+        OrderTotals snapshot() {
+            return new OrderTotals(count.sum(), quantity.sum(), revenue.sum());
+        }
+    }
+}
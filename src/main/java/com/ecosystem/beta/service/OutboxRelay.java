@@ -0,0 +1,143 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderEvent;
+import com.ecosystem.beta.model.OutboxEvent;
+import com.ecosystem.beta.repository.OutboxEventStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventStore outboxEventStore;
+    private final OrderEventSink orderEventSink;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Clock clock;
+    private final Counter deliveredEvents;
+    private final Counter failedDeliveries;
+    private volatile Instant oldestPending;
+    private volatile boolean running;
+    private Thread worker;
+
+    @Autowired
+    public OutboxRelay(OutboxEventStore outboxEventStore, OrderEventSink orderEventSink,
+                       @Value("${orders.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${orders.outbox.relay.poll-interval:500ms}") Duration pollInterval,
+                       @Value("${orders.outbox.relay.batch-size:100}") int batchSize,
+                       MeterRegistry meterRegistry) {
+        this(outboxEventStore, orderEventSink, enabled, pollInterval, batchSize, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxEventStore outboxEventStore, OrderEventSink orderEventSink, boolean enabled,
+                Duration pollInterval, int batchSize, MeterRegistry meterRegistry, Clock clock) {
+        this.outboxEventStore = outboxEventStore;
+        this.orderEventSink = orderEventSink;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.clock = clock;
+        this.deliveredEvents = meterRegistry.counter("orders.outbox.delivered");
+        this.failedDeliveries = meterRegistry.counter("orders.outbox.failures");
+        TimeGauge.builder("orders.outbox.lag", this, TimeUnit.MILLISECONDS, OutboxRelay::lagMillis)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (enabled) {
+            worker = Thread.ofPlatform().name("outbox-relay").daemon().start(this::relay);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            worker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relay() {
+        while (running) {
+            try {
+                if (relayBatch() < batchSize) {
+                    Thread.sleep(pollInterval.toMillis());
+                }
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay pass failed", e);
+                sleepQuietly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxEventStore.findAllByOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            oldestPending = null;
+            return 0;
+        }
+        oldestPending = batch.get(0).getCreatedAt();
+        try {
+            orderEventSink.publish(batch.stream().map(OutboxRelay::toEvent).toList());
+        } catch (RuntimeException e) {
+            failedDeliveries.increment();
+            log.warn("Failed to deliver {} outbox events starting at {}", batch.size(), batch.get(0).getId(), e);
+            return 0;
+        }
+        outboxEventStore.deleteAllByIdInBatch(batch.stream().map(OutboxEvent::getId).toList());
+        deliveredEvents.increment(batch.size());
+        return batch.size();
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(pollInterval.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double lagMillis() {
+        Instant oldest = oldestPending;
+        return oldest == null ? 0 : Math.max(0, Duration.between(oldest, clock.instant()).toMillis());
+    }
+
+    private static OrderEvent toEvent(OutboxEvent event) {
+        return new OrderEvent(event.getId(), event.getEventType(), event.getOrderId(), event.getPayload(),
+                event.getCreatedAt());
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.dto.OrderProjectionPage;
+import com.ecosystem.beta.dto.OrderRevision;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class TimedOrderService implements OrderService {
+
+    static final String METRIC_NAME = "orders.service";
+
+    private final OrderService delegate;
+    private final Timer getOrders;
+    private final Timer getOrderProjections;
+    private final Timer streamOrders;
+    private final Timer getOrderById;
+    private final Timer getOrderProjection;
+    private final Timer getOrderRevision;
+    private final Timer createOrder;
+    private final Timer createOrders;
+    private final Timer updateOrder;
+    private final Timer patchOrder;
+    private final Timer deleteOrder;
+
+    public TimedOrderService(OrderService delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.getOrders = timer(meterRegistry, "getOrders");
+        this.getOrderProjections = timer(meterRegistry, "getOrderProjections");
+        this.streamOrders = timer(meterRegistry, "streamOrders");
+        this.getOrderById = timer(meterRegistry, "getOrderById");
+        this.getOrderProjection = timer(meterRegistry, "getOrderProjection");
+        this.getOrderRevision = timer(meterRegistry, "getOrderRevision");
+        this.createOrder = timer(meterRegistry, "createOrder");
+        this.createOrders = timer(meterRegistry, "createOrders");
+        this.updateOrder = timer(meterRegistry, "updateOrder");
+        this.patchOrder = timer(meterRegistry, "patchOrder");
+        this.deleteOrder = timer(meterRegistry, "deleteOrder");
+    }
+
+    @Override
+    public OrderPage getOrders(OrderFilter filter, Long after, int limit) {
+        return getOrders.record(() -> delegate.getOrders(filter, after, limit));
+    }
+
+    @Override
+    public OrderProjectionPage getOrderProjections(OrderFilter filter, Long after, int limit, Set<OrderField> fields) {
+        return getOrderProjections.record(() -> delegate.getOrderProjections(filter, after, limit, fields));
+    }
+
+    @Override
+    public void streamOrders(OrderFilter filter, Long after, Consumer<OrderDto> consumer) {
+        streamOrders.record(() -> delegate.streamOrders(filter, after, consumer));
+    }
+
+    @Override
+    public OrderDto getOrderById(Long id) {
+        return getOrderById.record(() -> delegate.getOrderById(id));
+    }
+
+    @Override
+    public Map<String, Object> getOrderProjection(Long id, Set<OrderField> fields) {
+        return getOrderProjection.record(() -> delegate.getOrderProjection(id, fields));
+    }
+
+    @Override
+    public OrderRevision getOrderRevision(Long id) {
+        return getOrderRevision.record(() -> delegate.getOrderRevision(id));
+    }
+
+    @Override
+    public OrderDto createOrder(OrderDto orderDto) {
+        return createOrder.record(() -> delegate.createOrder(orderDto));
+    }
+
+    @Override
+    public List<OrderBatchItemResult> createOrders(Stream<OrderDto> orderDtos) {
+        return createOrders.record(() -> delegate.createOrders(orderDtos));
+    }
+
+    @Override
+    public OrderDto updateOrder(Long id, OrderDto orderDto, Long expectedVersion) {
+        return updateOrder.record(() -> delegate.updateOrder(id, orderDto, expectedVersion));
+    }
+
+    @Override
+    public OrderDto patchOrder(Long id, OrderDto changes, Long expectedVersion) {
+        return patchOrder.record(() -> delegate.patchOrder(id, changes, expectedVersion));
+    }
+
+    @Override
+    public void deleteOrder(Long id) {
+        deleteOrder.record(() -> delegate.deleteOrder(id));
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String method) {
+        return Timer.builder(METRIC_NAME)
+                .tag("method", method)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
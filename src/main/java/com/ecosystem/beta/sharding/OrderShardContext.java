@@ -0,0 +1,59 @@
+package com.ecosystem.beta.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+public final class OrderShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private OrderShardContext() {
+    }
+
+    public static int current() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Integer bound = (Integer) TransactionSynchronizationManager.getResource(OrderShardContext.class);
+            if (bound != null) {
+                return bound;
+            }
+        }
+        Integer shard = CURRENT.get();
+        return shard == null ? 0 : shard;
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> work) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            bindToTransaction(shard);
+            return work.get();
+        }
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private static void bindToTransaction(int shard) {
+        Integer bound = (Integer) TransactionSynchronizationManager.getResource(OrderShardContext.class);
+        if (bound == null) {
+            TransactionSynchronizationManager.bindResource(OrderShardContext.class, shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OrderShardContext.class);
+                }
+            });
+        } else if (bound != shard) {
+            throw new IllegalStateException("Transaction is bound to order shard " + bound
+                    + " and cannot also write to shard " + shard);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.ecosystem.beta.sharding;
+
+public class OrderShardRouter {
+
+    private static final long MIX = 0x9E3779B97F4A7C15L;
+
+    private final int shardCount;
+
+    public OrderShardRouter(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one order shard is required");
+        }
+        this.shardCount = shardCount;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Long userId) {
+        return userId == null ? 0 : Math.floorMod(Long.hashCode(userId * MIX), shardCount);
+    }
+
+    public int shardOfId(Long id) {
+        return Math.floorMod(id, shardCount);
+    }
+
+    public static long compose(long localId, int shard, int shardCount) {
+        return localId * shardCount + shard;
+    }
+}
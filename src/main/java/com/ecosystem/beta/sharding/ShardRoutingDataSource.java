@@ -0,0 +1,50 @@
+package com.ecosystem.beta.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<HikariDataSource> shards;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ShardRoutingDataSource(List<HikariDataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public HikariDataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    public ExecutorService executor() {
+        return executor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return OrderShardContext.current();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        shards.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,334 @@
+package com.ecosystem.beta.sharding;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.model.Order;
+import com.ecosystem.beta.model.OutboxEvent;
+import com.ecosystem.beta.repository.OrderRepository;
+import com.ecosystem.common.exception.UnprocessableEntityException;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ShardedRepositoryInterceptor implements MethodInterceptor {
+
+    static final int STREAM_PAGE_SIZE = 500;
+
+    private static final Set<String> ROUTED_BY_ID = Set.of("findById", "existsById", "findRevisionById",
+            "findProjectedById", "patch", "deleteByIdAndVersion");
+    private static final Set<String> ROUTED_BY_ENTITY = Set.of("save");
+    private static final Set<String> GROUPED_BY_ENTITY = Set.of("saveAll");
+    private static final Set<String> GROUPED_BY_ID = Set.of("deleteAllByIdInBatch");
+    private static final Set<String> MERGED_BY_ID = Set.of("findByIdGreaterThanOrderByIdAsc", "findMatching",
+            "findProjected", "findAllByOrderByIdAsc");
+    private static final Set<String> CONCATENATED = Set.of("aggregateByUserIdAndStatus");
+    private static final Set<String> SPECIAL = Set.of("writeInGroups", "streamAllByOrderByIdAsc");
+
+    private final Object target;
+    private final OrderShardRouter router;
+    private final ExecutorService shardExecutor;
+
+    public ShardedRepositoryInterceptor(Class<?> storeType, Object target, OrderShardRouter router,
+                                        ExecutorService shardExecutor) {
+        for (Method method : storeType.getMethods()) {
+            if (!isSupported(method.getName())) {
+                throw new IllegalArgumentException(storeType.getSimpleName() + "." + method.getName()
+                        + " is not supported across order shards");
+            }
+        }
+        this.target = target;
+        this.router = router;
+        this.shardExecutor = shardExecutor;
+    }
+
+    static boolean isSupported(String name) {
+        return ROUTED_BY_ID.contains(name) || ROUTED_BY_ENTITY.contains(name) || GROUPED_BY_ENTITY.contains(name)
+                || GROUPED_BY_ID.contains(name) || MERGED_BY_ID.contains(name) || CONCATENATED.contains(name)
+                || SPECIAL.contains(name);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        Object[] args = invocation.getArguments();
+        String name = method.getName();
+        if (ReflectionUtils.isObjectMethod(method)) {
+            return invocation.proceed();
+        }
+        if (name.equals("writeInGroups")) {
+            writeInGroups((List<?>) args[0], args[1]);
+            return null;
+        }
+        if (name.equals("patch") && args[1] instanceof OrderDto changes) {
+            checkStaysOnShard((Long) args[0], changes.userId());
+        }
+        if (ROUTED_BY_ID.contains(name)) {
+            return onShard(router.shardOfId((Long) args[0]), method, args);
+        }
+        if (ROUTED_BY_ENTITY.contains(name)) {
+            if (args[0] instanceof Order order && order.getId() != null) {
+                checkStaysOnShard(order.getId(), order.getUserId());
+            }
+            return onShard(shardOf(args[0]), method, args);
+        }
+        if (GROUPED_BY_ENTITY.contains(name)) {
+            return grouped(method, (Iterable<?>) args[0], this::shardOf);
+        }
+        if (GROUPED_BY_ID.contains(name)) {
+            return grouped(method, (Iterable<?>) args[0], id -> router.shardOfId((Long) id));
+        }
+        if (MERGED_BY_ID.contains(name)) {
+            if (args[0] instanceof OrderFilter filter && filter.userId() != null) {
+                return onShard(router.shardOf(filter.userId()), method, args);
+            }
+            return mergeById(scatter(method, args), limitOf(args));
+        }
+        if (CONCATENATED.contains(name)) {
+            return scatter(method, args).stream()
+                    .flatMap(rows -> ((List<?>) rows).stream())
+                    .collect(Collectors.toCollection(ArrayList::new));
+        }
+        if (name.equals("streamAllByOrderByIdAsc")) {
+            return mergedStream();
+        }
+        throw new UnsupportedOperationException(name + " is not supported across order shards");
+    }
+
+    private int shardOf(Object entity) {
+        return switch (entity) {
+            case Order order -> order.getId() != null
+                    ? router.shardOfId(order.getId())
+                    : router.shardOf(order.getUserId());
+            case OutboxEvent event -> event.getId() != null
+                    ? router.shardOfId(event.getId())
+                    : OrderShardContext.current();
+            default -> throw new IllegalArgumentException("Not a sharded entity: " + entity.getClass().getName());
+        };
+    }
+
+    private void checkStaysOnShard(Long id, Long userId) {
+        if (userId != null && router.shardOf(userId) != router.shardOfId(id)) {
+            throw UnprocessableEntityException.stackless("Order " + id + " cannot be moved to user " + userId
+                    + " because that user's orders are stored on another shard");
+        }
+    }
+
+    private static long idOf(Object row) {
+        return switch (row) {
+            case Order order -> order.getId();
+            case OutboxEvent event -> event.getId();
+            case Map<?, ?> projection -> (Long) projection.get(OrderField.ID.attribute());
+            default -> throw new IllegalArgumentException("Not a sharded row: " + row.getClass().getName());
+        };
+    }
+
+    private static int limitOf(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof Limit limit && limit.isLimited()) {
+                return limit.max();
+            }
+            if (arg instanceof Integer limit) {
+                return limit;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private Object onShard(int shard, Method method, Object[] args) {
+        return OrderShardContext.callOn(shard, () -> invokeTarget(method, args));
+    }
+
+    private CompletableFuture<Object> onShardAsync(int shard, Method method, Object[] args) {
+        return CompletableFuture.supplyAsync(() -> onShard(shard, method, args), shardExecutor);
+    }
+
+    private Object invokeTarget(Method method, Object[] args) {
+        try {
+            return AopUtils.invokeJoinpointUsingReflection(target, method, args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private List<Object> scatter(Method method, Object[] args) {
+        List<CompletableFuture<Object>> results = new ArrayList<>(router.shardCount());
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+            results.add(onShardAsync(shard, method, args));
+        }
+        return results.stream().map(ShardedRepositoryInterceptor::join).toList();
+    }
+
+    private Object grouped(Method method, Iterable<?> items, ToIntFunction<Object> shardOf) {
+        Map<Integer, List<Object>> byShard = new TreeMap<>();
+        Map<Integer, List<Integer>> positions = new TreeMap<>();
+        int size = 0;
+        for (Object item : items) {
+            int shard = shardOf.applyAsInt(item);
+            byShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(item);
+            positions.computeIfAbsent(shard, key -> new ArrayList<>()).add(size++);
+        }
+        if (byShard.size() <= 1) {
+            int shard = byShard.isEmpty() ? OrderShardContext.current() : byShard.keySet().iterator().next();
+            return onShard(shard, method, new Object[]{byShard.getOrDefault(shard, List.of())});
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new InvalidDataAccessApiUsageException("Entities for order shards " + byShard.keySet()
+                    + " cannot be written in one transaction");
+        }
+        Map<Integer, CompletableFuture<Object>> results = new TreeMap<>();
+        byShard.forEach((shard, group) -> results.put(shard, onShardAsync(shard, method, new Object[]{group})));
+        if (method.getReturnType() == void.class) {
+            results.values().forEach(ShardedRepositoryInterceptor::join);
+            return null;
+        }
+        Object[] merged = new Object[size];
+        results.forEach((shard, result) -> {
+            List<?> saved = (List<?>) join(result);
+            List<Integer> shardPositions = positions.get(shard);
+            for (int i = 0; i < saved.size(); i++) {
+                merged[shardPositions.get(i)] = saved.get(i);
+            }
+        });
+        return new ArrayList<>(Arrays.asList(merged));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeInGroups(List<?> orders, Object writer) {
+        Map<Integer, List<Object>> byShard = new TreeMap<>();
+        for (Object order : orders) {
+            byShard.computeIfAbsent(shardOf(order), key -> new ArrayList<>()).add(order);
+        }
+        if (byShard.size() > 1 && TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new InvalidDataAccessApiUsageException("Entities for order shards " + byShard.keySet()
+                    + " cannot be written in one transaction");
+        }
+        Consumer<List<Object>> groupWriter = (Consumer<List<Object>>) writer;
+        byShard.forEach((shard, group) -> OrderShardContext.callOn(shard, () -> {
+            groupWriter.accept(group);
+            return null;
+        }));
+    }
+
+    private static List<Object> mergeById(List<Object> shardResults, int limit) {
+        return shardResults.stream()
+                .flatMap(rows -> ((List<?>) rows).stream())
+                .sorted(Comparator.comparingLong(ShardedRepositoryInterceptor::idOf))
+                .limit(limit)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private Stream<Order> mergedStream() {
+        PriorityQueue<ShardCursor> heads = new PriorityQueue<>(Comparator.comparingLong(cursor -> cursor.head().getId()));
+        List<ShardCursor> cursors = new ArrayList<>(router.shardCount());
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+            cursors.add(new ShardCursor(shard));
+        }
+        for (ShardCursor cursor : cursors) {
+            if (cursor.advance()) {
+                heads.add(cursor);
+            }
+        }
+        Iterator<Order> merged = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override
+            public Order next() {
+                ShardCursor cursor = heads.poll();
+                if (cursor == null) {
+                    throw new NoSuchElementException();
+                }
+                Order order = cursor.poll();
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+                return order;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged,
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    private static <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private final class ShardCursor {
+
+        private final int shard;
+        private List<Order> page = List.of();
+        private int position;
+        private CompletableFuture<List<Order>> next;
+
+        private ShardCursor(int shard) {
+            this.shard = shard;
+            this.next = fetchAfter(0L);
+        }
+
+        private boolean advance() {
+            if (position < page.size()) {
+                return true;
+            }
+            if (next == null) {
+                return false;
+            }
+            page = join(next);
+            position = 0;
+            next = page.size() < STREAM_PAGE_SIZE ? null : fetchAfter(page.get(page.size() - 1).getId());
+            return !page.isEmpty();
+        }
+
+        private Order head() {
+            return page.get(position);
+        }
+
+        private Order poll() {
+            return page.get(position++);
+        }
+
+        private CompletableFuture<List<Order>> fetchAfter(Long after) {
+            OrderRepository orders = (OrderRepository) target;
+            return CompletableFuture.supplyAsync(() -> OrderShardContext.callOn(shard,
+                    () -> orders.findByIdGreaterThanOrderByIdAsc(after, Limit.of(STREAM_PAGE_SIZE))), shardExecutor);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecosystem.beta.sharding;
+
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+public class ShardedSequenceGenerator implements IdentifierGenerator {
+
+    public static final String SHARD_COUNT = "orders.sharding.shard-count";
+
+    private SequenceStyleGenerator[] shards;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) {
+        int shardCount = ConfigurationHelper.getInt(SHARD_COUNT,
+                serviceRegistry.requireService(ConfigurationService.class).getSettings(), 1);
+        shards = new SequenceStyleGenerator[shardCount];
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards[shard] = new SequenceStyleGenerator();
+            shards[shard].configure(type, parameters, serviceRegistry);
+        }
+    }
+
+    @Override
+    public void registerExportables(Database database) {
+        for (SequenceStyleGenerator shard : shards) {
+            shard.registerExportables(database);
+        }
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        for (SequenceStyleGenerator shard : shards) {
+            shard.initialize(context);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object entity) {
+        int shard = OrderShardContext.current();
+        long localId = ((Number) shards[shard].generate(session, entity)).longValue();
+        return OrderShardRouter.compose(localId, shard, shards.length);
+    }
+}
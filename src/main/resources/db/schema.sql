@@ -0,0 +1,33 @@
+create sequence if not exists orders_seq start with 1 increment by 50;
+
+create sequence if not exists order_outbox_seq start with 1 increment by 50;
+
+create table if not exists orders (
+    id bigint not null,
+    user_id bigint,
+    product_name varchar(255),
+    quantity integer,
+    total_price numeric(38,2),
+    status varchar(255),
+    created_at timestamp(6) with time zone,
+    updated_at timestamp(6) with time zone,
+    version bigint,
+    primary key (id)
+);
+
+create index if not exists idx_orders_user_id_id on orders (user_id, id);
+
+create index if not exists idx_orders_user_id_status_id on orders (user_id, status, id);
+
+create index if not exists idx_orders_status_id on orders (status, id);
+
+create index if not exists idx_orders_created_at_id on orders (created_at, id);
+
+create table if not exists order_outbox (
+    id bigint not null,
+    event_type varchar(255),
+    order_id bigint,
+    payload varchar(4000),
+    created_at timestamp(6) with time zone,
+    primary key (id)
+);
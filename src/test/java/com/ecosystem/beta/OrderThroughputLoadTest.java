@@ -0,0 +1,126 @@
+package com.ecosystem.beta;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderThroughputLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderThroughputLoadTest.class);
+
+    private static final Duration ALPHA_LATENCY = Duration.ofMillis(250);
+    private static final int PLATFORM_THREADS = 4;
+    private static final int CONCURRENT_CLIENTS = 50;
+    private static final int REQUESTS_PER_CLIENT = 2;
+
+    private HttpServer alpha;
+
+    @BeforeEach
+    void startSlowAlpha() throws IOException {
+        alpha = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        alpha.createContext("/api/v1/users", OrderThroughputLoadTest::respondSlowly);
+        alpha.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        alpha.start();
+    }
+
+    @AfterEach
+    void stopSlowAlpha() {
+        alpha.stop(0);
+    }
+
+    @Test
+    void shouldSustainHigherThroughput_whenVirtualThreadsEnabled() throws Exception {
+        double platformThroughput = measureThroughput(false);
+        double virtualThroughput = measureThroughput(true);
+
+        log.info("createOrder throughput against {} ms alpha: platform={} req/s, virtual={} req/s",
+                ALPHA_LATENCY.toMillis(), Math.round(platformThroughput), Math.round(virtualThroughput));
+        assertThat(virtualThroughput).isGreaterThan(platformThroughput * 2);
+    }
+
+    private double measureThroughput(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext)
+                new SpringApplicationBuilder(BetaApplication.class).run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--server.tomcat.threads.max=" + PLATFORM_THREADS,
+                        "--services.alpha.base-url=http://localhost:" + alpha.getAddress().getPort(),
+                        "--services.alpha.bulkhead.max-concurrent-calls=" + CONCURRENT_CLIENTS,
+                        "--services.alpha.user-cache.enabled=false")) {
+            URI orders = URI.create("http://localhost:" + context.getWebServer().getPort() + "/api/v1/orders");
+            HttpClient client = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+            HttpRequest request = HttpRequest.newBuilder(orders)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"userId\":1,\"productName\":\"Laptop\",\"quantity\":1,\"totalPrice\":1500.00,\"status\":\"PENDING\"}"))
+                    .build();
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+
+            AtomicInteger created = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(CONCURRENT_CLIENTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 201) {
+                                created.incrementAndGet();
+                            }
+                        }
+                    } catch (IOException e) {
+                        log.warn("Load request failed", e);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            assertThat(created).hasValue(CONCURRENT_CLIENTS * REQUESTS_PER_CLIENT);
+            return created.get() / seconds;
+        }
+    }
+
+    private static void respondSlowly(HttpExchange exchange) throws IOException {
+        try {
+            Thread.sleep(ALPHA_LATENCY.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = ("{\"id\":1,\"username\":\"john.doe\",\"email\":\"john@example.com\","
+                + "\"firstName\":\"John\",\"lastName\":\"Doe\",\"createdAt\":\"2024-01-01T00:00:00Z\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ecosystem.beta.client;
+
+import com.ecosystem.common.dto.UserDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(true, 100, Duration.ofMinutes(5), Duration.ofSeconds(30), meterRegistry, nanos::get);
+    }
+
+    private Optional<UserDto> loadUser(Long userId) {
+        loads.incrementAndGet();
+        return Optional.of(new UserDto(userId, "john.doe", "john@example.com", "John", "Doe",
+                Instant.parse("2024-01-01T00:00:00Z")));
+    }
+
+    private Optional<UserDto> loadMissingUser(Long userId) {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+
+    @Test
+    void shouldLoadOnce_whenSameUserRequestedRepeatedly() {
+        userCache.get(1L, this::loadUser);
+        Optional<UserDto> result = userCache.get(1L, this::loadUser);
+
+        assertThat(result).map(UserDto::id).contains(1L);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReload_whenTtlExpires() {
+        userCache.get(1L, this::loadUser);
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        userCache.get(1L, this::loadUser);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldCacheMissingUser_untilNegativeTtlExpires() {
+        userCache.get(99L, this::loadMissingUser);
+        assertThat(userCache.get(99L, this::loadMissingUser)).isEmpty();
+        assertThat(loads).hasValue(1);
+
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        userCache.get(99L, this::loadMissingUser);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldNotCacheFailure_whenLoaderThrows() {
+        assertThatThrownBy(() -> userCache.get(1L, id -> {
+            throw new IllegalStateException("alpha unavailable");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("alpha unavailable");
+
+        assertThat(userCache.get(1L, this::loadUser)).isPresent();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldShareSingleLoad_whenSameUserRequestedConcurrently() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<Optional<UserDto>>> callers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            callers.add(CompletableFuture.supplyAsync(() -> userCache.get(1L, id -> {
+                await(release);
+                return loadUser(id);
+            })));
+        }
+
+        release.countDown();
+
+        for (CompletableFuture<Optional<UserDto>> caller : callers) {
+            assertThat(caller.get(5, TimeUnit.SECONDS)).isPresent();
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldRejectBatchLoad_whenCacheClosed() {
+        userCache.close();
+
+        assertThatThrownBy(() -> userCache.getAll(List.of(1L, 2L), ids -> Map.of()))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void shouldAlwaysLoad_whenCacheDisabled() {
+        UserCache disabled = new UserCache(false, 0, Duration.ZERO, Duration.ZERO, meterRegistry);
+
+        disabled.get(1L, this::loadUser);
+        disabled.get(1L, this::loadUser);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
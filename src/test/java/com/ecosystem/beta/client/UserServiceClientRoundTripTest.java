@@ -0,0 +1,126 @@
+package com.ecosystem.beta.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserServiceClientRoundTripTest {
+
+    private static final long EXISTING_USERS = 200;
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private HttpServer alpha;
+    private RestClient restClient;
+
+    @BeforeEach
+    void startAlphaStub() throws IOException {
+        alpha = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        alpha.createContext("/api/v1/users", this::handle);
+        alpha.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        alpha.start();
+        restClient = RestClient.builder().baseUrl("http://localhost:" + alpha.getAddress().getPort()).build();
+    }
+
+    @AfterEach
+    void stopAlphaStub() {
+        alpha.stop(0);
+    }
+
+    private UserServiceClient client(boolean batchEndpointEnabled, boolean cacheEnabled) {
+        UserCache userCache = new UserCache(cacheEnabled, 10_000, Duration.ofMinutes(5), Duration.ofSeconds(30),
+                new SimpleMeterRegistry());
+        return new UserServiceClient(restClient, userCache, CircuitBreaker.ofDefaults("alpha"),
+                Bulkhead.ofDefaults("alpha"), 100, 4, batchEndpointEnabled);
+    }
+
+    private static List<Long> ids(long count) {
+        return LongStream.rangeClosed(1, count).boxed().toList();
+    }
+
+    @Test
+    void shouldCallAlphaOncePerId_whenBatchEndpointDisabled() {
+        UserLookupResult result = client(false, false).getUsersByIds(ids(250));
+
+        assertThat(result.found()).hasSize(200);
+        assertThat(result.missing()).hasSize(50).contains(201L, 250L);
+        assertThat(roundTrips).hasValue(250);
+    }
+
+    @Test
+    void shouldCallAlphaOncePerChunk_whenBatchEndpointEnabled() {
+        UserLookupResult result = client(true, false).getUsersByIds(ids(250));
+
+        assertThat(result.found()).hasSize(200);
+        assertThat(result.found().get(7L).username()).isEqualTo("user7");
+        assertThat(result.missing()).hasSize(50).contains(201L, 250L);
+        assertThat(roundTrips).hasValue(3);
+    }
+
+    @Test
+    void shouldOnlyFetchUncachedIds_whenUsersWereLookedUpBefore() {
+        UserServiceClient client = client(true, true);
+        client.getUsersByIds(ids(150));
+        roundTrips.set(0);
+
+        UserLookupResult result = client.getUsersByIds(ids(250));
+
+        assertThat(result.found()).hasSize(200);
+        assertThat(result.missing()).hasSize(50);
+        assertThat(roundTrips).hasValue(1);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        roundTrips.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        String query = exchange.getRequestURI().getQuery();
+        if (path.equals("/api/v1/users") && query != null) {
+            String users = Arrays.stream(query.split("&"))
+                    .map(param -> Long.parseLong(param.substring("ids=".length())))
+                    .filter(id -> id <= EXISTING_USERS)
+                    .map(UserServiceClientRoundTripTest::userJson)
+                    .collect(Collectors.joining(",", "[", "]"));
+            respond(exchange, 200, users);
+            return;
+        }
+        long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        if (id > EXISTING_USERS) {
+            respond(exchange, 404, "{}");
+        } else {
+            respond(exchange, 200, userJson(id));
+        }
+    }
+
+    private static String userJson(long id) {
+        return "{\"id\":" + id + ",\"username\":\"user" + id + "\",\"email\":\"user" + id
+                + "@example.com\",\"firstName\":\"First\",\"lastName\":\"Last\",\"createdAt\":\"2024-01-01T00:00:00Z\"}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package com.ecosystem.beta.client;
 
 import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.beta.config.ResilienceConfig;
 import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,18 +49,21 @@ class UserServiceClientTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private UserServiceClient userServiceClient;
 
     @BeforeEach
     void setUp() {
-        userServiceClient = new UserServiceClient(restClient);
+        UserCache userCache = new UserCache(false, 0, Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry());
+        userServiceClient = new UserServiceClient(restClient, userCache);
     }
 
     @SuppressWarnings("unchecked")
     @Test
     void shouldReturnUserDto_whenGetUserByIdCalledWithValidId() {
-        UserDto expectedUser = new UserDto(1L, "john.doe", "john@example.com", "John Doe",
-                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"));
+        UserDto expectedUser = new UserDto(1L, "john.doe", "john@example.com", "John", "Doe",
+                Instant.parse("2024-01-01T00:00:00Z"));
 
         when(restClient.get()).thenReturn((RestClient.RequestHeadersUriSpec) requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(anyString(), any(Object[].class))).thenReturn((RestClient.RequestHeadersSpec) requestHeadersSpec);
@@ -70,4 +89,101 @@ class UserServiceClientTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("99");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldRejectBatchLookup_whenClientClosed() {
+        userServiceClient.close();
+
+        assertThatThrownBy(() -> userServiceClient.getUsersByIds(List.of(1L, 2L)))
+                .isInstanceOf(RejectedExecutionException.class);
+        verifyNoInteractions(restClient);
+    }
+
+    @Test
+    void shouldFetchIdsConcurrently_whenBatchEndpointDisabled() {
+        stubUserRequest();
+        CountDownLatch inFlight = new CountDownLatch(4);
+        when(responseSpec.body(UserDto.class)).thenAnswer(invocation -> {
+            inFlight.countDown();
+            assertThat(inFlight.await(5, TimeUnit.SECONDS)).isTrue();
+            return new UserDto(1L, "john.doe", "john@example.com", "John", "Doe", null);
+        });
+        UserCache userCache = new UserCache(false, 0, Duration.ZERO, Duration.ZERO, meterRegistry);
+        UserServiceClient client = new UserServiceClient(restClient, userCache, CircuitBreaker.ofDefaults("alpha"),
+                Bulkhead.ofDefaults("alpha"), 100, 4, false);
+
+        UserLookupResult result = client.getUsersByIds(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(result.found()).containsOnlyKeys(1L, 2L, 3L, 4L);
+        verify(responseSpec, times(4)).body(UserDto.class);
+        client.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubUserRequest() {
+        when(restClient.get()).thenReturn((RestClient.RequestHeadersUriSpec) requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(anyString(), any(Object[].class))).thenReturn((RestClient.RequestHeadersSpec) requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+    }
+
+    private UserServiceClient resilientClient(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        UserCache userCache = new UserCache(false, 0, Duration.ZERO, Duration.ZERO, meterRegistry);
+        return new UserServiceClient(restClient, userCache, circuitBreaker, bulkhead, 100, 8, false);
+    }
+
+    private CircuitBreaker circuitBreaker(Duration waitDurationInOpenState) {
+        return new ResilienceConfig().serviceAlphaCircuitBreaker(50, Duration.ofSeconds(2), 100, 2, 2,
+                waitDurationInOpenState, 1, meterRegistry);
+    }
+
+    @Test
+    void shouldFailFastWithoutCallingAlpha_whenCircuitIsOpen() {
+        stubUserRequest();
+        when(responseSpec.body(UserDto.class)).thenThrow(new ResourceAccessException("Read timed out"));
+        UserServiceClient client = resilientClient(circuitBreaker(Duration.ofMinutes(1)), Bulkhead.ofDefaults("alpha"));
+
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> client.getUserById(1L))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasCauseInstanceOf(CallNotPermittedException.class);
+
+        verify(restClient, times(2)).get();
+        assertThat(meterRegistry.get("alpha.circuitbreaker.transitions")
+                .tag("from", "CLOSED").tag("to", "OPEN").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCloseCircuit_whenHalfOpenProbeSucceeds() throws Exception {
+        stubUserRequest();
+        UserDto user = new UserDto(1L, "john.doe", "john@example.com", "John", "Doe",
+                Instant.parse("2024-01-01T00:00:00Z"));
+        when(responseSpec.body(UserDto.class))
+                .thenThrow(new ResourceAccessException("Read timed out"))
+                .thenThrow(new ResourceAccessException("Read timed out"))
+                .thenReturn(user);
+        CircuitBreaker circuitBreaker = circuitBreaker(Duration.ofMillis(50));
+        UserServiceClient client = resilientClient(circuitBreaker, Bulkhead.ofDefaults("alpha"));
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(ServiceUnavailableException.class);
+        assertThatThrownBy(() -> client.getUserById(1L)).isInstanceOf(ServiceUnavailableException.class);
+
+        Thread.sleep(100);
+
+        assertThat(client.getUserById(1L)).isEqualTo(user);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shouldRejectCall_whenBulkheadIsFull() {
+        Bulkhead bulkhead = new ResilienceConfig().serviceAlphaBulkhead(1, Duration.ZERO, meterRegistry);
+        UserServiceClient client = resilientClient(circuitBreaker(Duration.ofMinutes(1)), bulkhead);
+        bulkhead.acquirePermission();
+
+        assertThatThrownBy(() -> client.getUserById(1L))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasCauseInstanceOf(BulkheadFullException.class);
+
+        verifyNoInteractions(restClient);
+        assertThat(meterRegistry.get("alpha.bulkhead.rejections").counter().count()).isEqualTo(1);
+    }
+}
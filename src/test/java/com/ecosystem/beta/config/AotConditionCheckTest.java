@@ -0,0 +1,49 @@
+package com.ecosystem.beta.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AotConditionCheckTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+    private final MockEnvironment environment = new MockEnvironment();
+
+    @Test
+    void shouldPass_whenRegisteredConfigurationsMatchProperties() {
+        register(MetricsConfig.class);
+        register(ShardingConfig.class);
+        environment.setProperty("orders.sharding.enabled", "true");
+
+        assertThatCode(() -> new AotConditionCheck(beanFactory, environment).afterSingletonsInstantiated())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldFail_whenPropertyEnablesConfigurationMissingFromBuild() {
+        register(MetricsConfig.class);
+        environment.setProperty("orders.replicas.enabled", "true");
+
+        assertThatThrownBy(() -> new AotConditionCheck(beanFactory, environment).afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("orders.replicas.enabled=true");
+    }
+
+    @Test
+    void shouldFail_whenPropertyDisablesConfigurationPresentInBuild() {
+        register(MetricsConfig.class);
+        environment.setProperty("orders.metrics.enabled", "false");
+
+        assertThatThrownBy(() -> new AotConditionCheck(beanFactory, environment).afterSingletonsInstantiated())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("orders.metrics.enabled=false");
+    }
+
+    private void register(Class<?> configuration) {
+        beanFactory.registerBeanDefinition(configuration.getSimpleName(), new RootBeanDefinition(configuration));
+    }
+}
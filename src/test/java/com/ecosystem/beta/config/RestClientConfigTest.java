@@ -0,0 +1,168 @@
+package com.ecosystem.beta.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(OutputCaptureExtension.class)
+class RestClientConfigTest {
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+    private final RestClientConfig config = new RestClientConfig();
+    private HttpServer alpha;
+
+    @BeforeEach
+    void startAlphaStub() throws IOException {
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        alpha = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        alpha.createContext("/plain", exchange -> respond(exchange, "plain".getBytes(StandardCharsets.UTF_8), false));
+        alpha.createContext("/gzip", exchange -> respond(exchange, gzip("compressed"), true));
+        alpha.createContext("/slow", exchange -> {
+            sleep(Duration.ofMillis(1500));
+            respond(exchange, "late".getBytes(StandardCharsets.UTF_8), false);
+        });
+        alpha.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        alpha.start();
+    }
+
+    @AfterEach
+    void stopAlphaStub() {
+        alpha.stop(0);
+        config.close();
+    }
+
+    private RestClient restClient(HttpClient.Version version) {
+        return restClient(version, Duration.ofMillis(200));
+    }
+
+    private RestClient restClient(HttpClient.Version version, Duration readTimeout) {
+        ClientHttpRequestFactory requestFactory = config.serviceAlphaRequestFactory(version, 10, 5,
+                Duration.ofSeconds(1), readTimeout, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5),
+                true, meterRegistry);
+        return config.serviceAlphaRestClient("http://localhost:" + alpha.getAddress().getPort(), requestFactory,
+                true, observationRegistry);
+    }
+
+    @Test
+    void shouldReusePooledConnection_whenRequestsAreSequential() {
+        RestClient restClient = restClient(HttpClient.Version.HTTP_1_1);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(restClient.get().uri("/plain").retrieve().body(String.class)).isEqualTo("plain");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    void shouldDecompressResponse_whenAlphaRespondsWithGzip() {
+        RestClient restClient = restClient(HttpClient.Version.HTTP_1_1);
+
+        assertThat(restClient.get().uri("/gzip").retrieve().body(String.class)).isEqualTo("compressed");
+    }
+
+    @Test
+    void shouldFailFast_whenAlphaExceedsReadTimeout() {
+        RestClient restClient = restClient(HttpClient.Version.HTTP_1_1);
+
+        assertThatThrownBy(() -> restClient.get().uri("/slow").retrieve().body(String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    void shouldTimeRequestsByUriTemplate_whenCallingAlpha() {
+        RestClient restClient = restClient(HttpClient.Version.HTTP_1_1);
+
+        restClient.get().uri("/{path}", "plain").retrieve().body(String.class);
+
+        assertThat(meterRegistry.get("http.client.requests")
+                .tag("uri", "/{path}")
+                .tag("status", "200")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPublishPoolMetrics_whenPooledTransportUsed() {
+        RestClient restClient = restClient(HttpClient.Version.HTTP_1_1);
+
+        restClient.get().uri("/plain").retrieve().body(String.class);
+
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", RestClientConfig.ALPHA_POOL_NAME).gauge().value()).isEqualTo(10);
+        assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "available").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("alpha.http.pool.lease").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldApplyReadTimeout_whenHttp2TransportUsed() {
+        RestClient restClient = restClient(HttpClient.Version.HTTP_2, Duration.ofSeconds(1));
+
+        assertThat(restClient.get().uri("/plain").retrieve().body(String.class)).isEqualTo("plain");
+        assertThatThrownBy(() -> restClient.get().uri("/slow").retrieve().body(String.class))
+                .isInstanceOf(ResourceAccessException.class);
+    }
+
+    @Test
+    void shouldWarnAboutIgnoredPoolSettings_whenHttp2TransportUsed(CapturedOutput output) {
+        restClient(HttpClient.Version.HTTP_2);
+
+        assertThat(output).contains("HTTP_2 uses the JDK HTTP client, which ignores max-connections=10");
+    }
+
+    private void respond(HttpExchange exchange, byte[] body, boolean gzip) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        exchange.getResponseHeaders().add("Content-Type", "text/plain");
+        if (gzip) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+        }
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(String value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(value.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.service.OrderService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderBatchController.class)
+@Import(SimpleMeterRegistry.class)
+class OrderBatchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private OrderService orderService;
+
+    private OrderDto sampleOrderDto() {
+        return new OrderDto(1L, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING",
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"), null);
+    }
+
+    @Test
+    void shouldReturnItemResults_whenCreateOrdersCalledWithJsonArray() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(orderService.createOrders(any())).thenAnswer(invocation -> {
+            Stream<OrderDto> orders = invocation.getArgument(0);
+            assertThat(orders).containsExactly(input, input);
+            return List.of(new OrderBatchItemResult(0, 201, sampleOrderDto(), null),
+                    new OrderBatchItemResult(1, 404, null, "User not found with id: 1"));
+        });
+
+        mockMvc.perform(post("/api/v1/orders:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(input, input))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].status").value(201))
+                .andExpect(jsonPath("$.data[0].order.id").value(1))
+                .andExpect(jsonPath("$.data[1].status").value(404));
+    }
+
+    @Test
+    void shouldReadEachLine_whenCreateOrdersCalledWithNdjson() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        String line = objectMapper.writeValueAsString(input);
+        when(orderService.createOrders(any())).thenAnswer(invocation -> {
+            Stream<OrderDto> orders = invocation.getArgument(0);
+            assertThat(orders).hasSize(3);
+            return List.of();
+        });
+
+        mockMvc.perform(post("/api/v1/orders:batch")
+                        .contentType("application/x-ndjson")
+                        .content(line + "\n" + line + "\n" + line + "\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true));
+    }
+
+    @Test
+    void shouldReturn400_whenCreateOrdersCalledWithMalformedItem() throws Exception {
+        when(orderService.createOrders(any())).thenAnswer(invocation -> {
+            Stream<OrderDto> orders = invocation.getArgument(0);
+            return orders.toList();
+        });
+
+        mockMvc.perform(post("/api/v1/orders:batch")
+                        .contentType("application/x-ndjson")
+                        .content("{\"userId\":\"not-a-number\"}\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
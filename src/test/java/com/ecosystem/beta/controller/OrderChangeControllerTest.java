@@ -0,0 +1,85 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderChange;
+import com.ecosystem.beta.service.OrderChangeFeed;
+import com.ecosystem.beta.service.OrderChangeLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderChangeController.class)
+@Import({OrderChangeFeed.class, OrderChangeLog.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "orders.changes.backlog-size=2")
+class OrderChangeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderChangeLog changeLog;
+
+    @Test
+    void shouldReplayAndStreamChanges_whenSubscribedWithOffset() throws Exception {
+        long first = changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        changeLog.append(OrderChange.Type.UPDATED, 1L, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/changes?since=" + first)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        changeLog.append(OrderChange.Type.DELETED, 1L, null);
+
+        String stream = awaitContent(result, "id:" + (first + 2));
+        assertThat(stream).doesNotContain("id:" + first + "\n");
+        assertThat(stream).contains("id:" + (first + 1) + "\n", "\"type\":\"UPDATED\"", "\"type\":\"DELETED\"");
+    }
+
+    @Test
+    void shouldResumeFromLastEventId_whenHeaderPresent() throws Exception {
+        changeLog.append(OrderChange.Type.CREATED, 7L, null);
+        long latest = changeLog.append(OrderChange.Type.UPDATED, 7L, null);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/changes")
+                        .header("Last-Event-ID", latest - 1)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(awaitContent(result, "id:" + latest)).contains("\"orderId\":7");
+    }
+
+    @Test
+    void shouldReturn410_whenOffsetNoLongerRetained() throws Exception {
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        changeLog.append(OrderChange.Type.CREATED, 2L, null);
+        changeLog.append(OrderChange.Type.CREATED, 3L, null);
+        changeLog.append(OrderChange.Type.CREATED, 4L, null);
+
+        mockMvc.perform(get("/api/v1/orders/changes?since=0").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isGone());
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        assertThat(content).contains(expected);
+        return content;
+    }
+}
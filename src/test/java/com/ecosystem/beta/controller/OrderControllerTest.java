@@ -1,33 +1,77 @@
 package com.ecosystem.beta.controller;
 
 import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.dto.OrderProjectionPage;
+import com.ecosystem.beta.dto.OrderRevision;
+import com.ecosystem.beta.dto.OrderStats;
+import com.ecosystem.beta.dto.OrderSubmission;
+import com.ecosystem.beta.dto.OrderTotals;
+import com.ecosystem.beta.service.IdempotencyStore;
+import com.ecosystem.beta.service.OrderPipeline;
 import com.ecosystem.beta.service.OrderService;
+import com.ecosystem.beta.service.OrderStatistics;
+import com.ecosystem.common.exception.BaseException;
+import com.ecosystem.common.exception.ConflictException;
 import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.PreconditionFailedException;
+import com.ecosystem.common.exception.TooManyRequestsException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
+@Import({SimpleMeterRegistry.class, IdempotencyStore.class})
 class OrderControllerTest {
 
     @Autowired
@@ -36,36 +80,276 @@ class OrderControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockBean
     private OrderService orderService;
 
+    @MockBean
+    private OrderPipeline orderPipeline;
+
+    @MockBean
+    private OrderStatistics orderStatistics;
+
     private OrderDto sampleOrderDto() {
         return new OrderDto(1L, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING",
-                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"));
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"), 0L);
     }
 
     @Test
-    void shouldReturnAllOrders_whenGetAllOrdersCalled() throws Exception {
-        when(orderService.getAllOrders()).thenReturn(List.of(sampleOrderDto()));
+    void shouldReturnOrderPage_whenGetOrdersCalled() throws Exception {
+        when(orderService.getOrders(OrderFilter.none(), null, 100)).thenReturn(new OrderPage(List.of(sampleOrderDto()), null));
 
         mockMvc.perform(get("/api/v1/orders"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data[0].id").value(1))
                 .andExpect(jsonPath("$.data[0].productName").value("Laptop"));
     }
 
+    @Test
+    void shouldReturnStatistics_whenGetStatsCalled() throws Exception {
+        OrderTotals totals = new OrderTotals(2, 5, new BigDecimal("2000.00"));
+        when(orderStatistics.snapshot(1L)).thenReturn(new OrderStats(totals,
+                Map.of("PENDING", totals), Map.of(1L, totals)));
+
+        mockMvc.perform(get("/api/v1/orders/stats?userId=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.total.count").value(2))
+                .andExpect(jsonPath("$.data.byStatus.PENDING.quantity").value(5))
+                .andExpect(jsonPath("$.data.byUser.1.revenue").value(2000.00));
+        verify(orderService, never()).getOrderById(any());
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedFields_whenGetOrdersCalledWithFields() throws Exception {
+        when(orderService.getOrderProjections(OrderFilter.none(), null, 100,
+                EnumSet.of(OrderField.ID, OrderField.TOTAL_PRICE, OrderField.STATUS)))
+                .thenReturn(new OrderProjectionPage(List.of(Map.of("id", 1L, "totalPrice", new BigDecimal("1500.00"),
+                        "status", "PENDING")), null));
+
+        mockMvc.perform(get("/api/v1/orders?fields=status,totalPrice"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.data[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.data[0].totalPrice").value(1500.00))
+                .andExpect(jsonPath("$.data[0].productName").doesNotExist());
+        verify(orderService, never()).getOrders(any(), any(), anyInt());
+    }
+
+    @Test
+    void shouldReturn400_whenFieldsNameUnknownAttribute() throws Exception {
+        mockMvc.perform(get("/api/v1/orders?fields=status,password"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unknown order field: password"));
+    }
+
+    @Test
+    void shouldReturnProjectedOrderWithETag_whenGetOrderByIdCalledWithFields() throws Exception {
+        when(orderService.getOrderProjection(1L, EnumSet.of(OrderField.ID, OrderField.STATUS, OrderField.VERSION)))
+                .thenReturn(Map.of("id", 1L, "status", "PENDING", "version", 3L));
+
+        mockMvc.perform(get("/api/v1/orders/1?fields=status,version"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"3-")))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.userId").doesNotExist());
+        verify(orderService, never()).getOrderById(any());
+    }
+
+    @Test
+    void shouldDefaultToJson_whenAcceptAllowsAnyType() throws Exception {
+        when(orderService.getOrderById(1L)).thenReturn(sampleOrderDto());
+
+        mockMvc.perform(get("/api/v1/orders/1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    void shouldWriteCbor_whenAcceptIsCbor() throws Exception {
+        when(orderService.getOrders(OrderFilter.none(), null, 100))
+                .thenReturn(new OrderPage(List.of(sampleOrderDto()), null));
+
+        byte[] body = mockMvc.perform(get("/api/v1/orders").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode order = new CBORMapper().readTree(body).get("data").get(0);
+        assertThat(order.get("productName").asText()).isEqualTo("Laptop");
+        assertThat(order.get("totalPrice").decimalValue()).isEqualByComparingTo("1500.00");
+        assertThat(order.get("createdAt").isNumber()).isTrue();
+    }
+
+    @Test
+    void shouldReadSmileBody_whenCreateOrderCalledWithSmile() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(orderService.createOrder(input)).thenReturn(sampleOrderDto());
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+
+        byte[] body = mockMvc.perform(post("/api/v1/orders")
+                        .contentType(smile)
+                        .accept(smile)
+                        .content(new SmileMapper().writeValueAsBytes(input)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentTypeCompatibleWith(smile))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new SmileMapper().readTree(body).get("data").get("id").asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldReturnNextLink_whenGetOrdersPageIsFull() throws Exception {
+        when(orderService.getOrders(OrderFilter.none(), 0L, 1)).thenReturn(new OrderPage(List.of(sampleOrderDto()), 1L));
+
+        mockMvc.perform(get("/api/v1/orders?after=0&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/api/v1/orders?limit=1&after=1>; rel=\"next\""));
+    }
+
+    @Test
+    void shouldPassFilters_whenGetOrdersCalledWithQueryParameters() throws Exception {
+        OrderFilter filter = new OrderFilter(1L, "PENDING", Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-02-01T00:00:00Z"));
+        when(orderService.getOrders(filter, null, 1)).thenReturn(new OrderPage(List.of(sampleOrderDto()), 1L));
+
+        mockMvc.perform(get("/api/v1/orders?userId=1&status=PENDING&createdFrom=2024-01-01T00:00:00Z"
+                        + "&createdTo=2024-02-01T00:00:00Z&limit=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(header().string(HttpHeaders.LINK, "<http://localhost/api/v1/orders?userId=1&status=PENDING"
+                        + "&createdFrom=2024-01-01T00:00:00Z&createdTo=2024-02-01T00:00:00Z&limit=1&after=1>; rel=\"next\""));
+    }
+
+    @Test
+    void shouldReturn400_whenGetOrdersCalledWithMalformedParameter() throws Exception {
+        mockMvc.perform(get("/api/v1/orders?createdFrom=yesterday"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Invalid value for parameter createdFrom"));
+
+        mockMvc.perform(get("/api/v1/orders?limit=ten"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid value for parameter limit"));
+    }
+
+    @Test
+    void shouldStreamNdjson_whenGetOrdersCalledWithNdjsonAccept() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<OrderDto> consumer = invocation.getArgument(2);
+            consumer.accept(sampleOrderDto());
+            consumer.accept(sampleOrderDto());
+            return null;
+        }).when(orderService).streamOrders(eq(OrderFilter.none()), isNull(), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).hasSize(2).allMatch(line -> line.startsWith("{\"id\":1,"));
+    }
+
+    @Test
+    void shouldPassFilters_whenGetOrdersStreamedAsNdjson() throws Exception {
+        OrderFilter filter = new OrderFilter(1L, "PENDING", Instant.parse("2024-01-01T00:00:00Z"), null);
+        doAnswer(invocation -> {
+            Consumer<OrderDto> consumer = invocation.getArgument(2);
+            consumer.accept(sampleOrderDto());
+            return null;
+        }).when(orderService).streamOrders(eq(filter), eq(5L), any());
+
+        MvcResult result = mockMvc.perform(get("/api/v1/orders?userId=1&status=PENDING"
+                        + "&createdFrom=2024-01-01T00:00:00Z&after=5").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n")).hasSize(1);
+    }
+
     @Test
     void shouldReturnOrder_whenGetOrderByIdCalledWithValidId() throws Exception {
         when(orderService.getOrderById(1L)).thenReturn(sampleOrderDto());
 
         mockMvc.perform(get("/api/v1/orders/1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.id").value(1))
                 .andExpect(jsonPath("$.data.productName").value("Laptop"));
     }
 
+    @Test
+    void shouldReturn304WithoutLoadingOrder_whenIfNoneMatchIsCurrent() throws Exception {
+        when(orderService.getOrderRevision(1L)).thenReturn(new OrderRevision(0L, Instant.parse("2024-01-01T00:00:00Z")));
+
+        mockMvc.perform(get("/api/v1/orders/1").header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                .andExpect(content().string(""));
+        verify(orderService, never()).getOrderById(any());
+    }
+
+    @Test
+    void shouldTagEachRepresentationSeparately_whenOrderRequestedInAnotherFormat() throws Exception {
+        when(orderService.getOrderById(1L)).thenReturn(sampleOrderDto());
+
+        String json = mockMvc.perform(get("/api/v1/orders/1").accept(MediaType.APPLICATION_JSON))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String cbor = mockMvc.perform(get("/api/v1/orders/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(json).startsWith("\"0-");
+        assertThat(cbor).startsWith("\"0-").isNotEqualTo(json);
+    }
+
+    @Test
+    void shouldReturn304OnlyForSameProjection_whenIfNoneMatchCarriesProjectionTag() throws Exception {
+        when(orderService.getOrderRevision(1L)).thenReturn(new OrderRevision(3L, Instant.parse("2024-01-01T00:00:00Z")));
+        when(orderService.getOrderProjection(eq(1L), any())).thenReturn(Map.of("id", 1L, "version", 3L));
+        String projectionTag = mockMvc.perform(get("/api/v1/orders/1?fields=version"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/orders/1?fields=version").header(HttpHeaders.IF_NONE_MATCH, projectionTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, projectionTag))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        mockMvc.perform(get("/api/v1/orders/1?fields=status,version").header(HttpHeaders.IF_NONE_MATCH, projectionTag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldReturn304_whenNotModifiedSinceLastModified() throws Exception {
+        when(orderService.getOrderRevision(1L)).thenReturn(new OrderRevision(0L, Instant.parse("2024-01-01T00:00:00Z")));
+
+        mockMvc.perform(get("/api/v1/orders/1").header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 01 Jan 2024 00:00:00 GMT"))
+                .andExpect(status().isNotModified());
+        verify(orderService, never()).getOrderById(any());
+    }
+
+    @Test
+    void shouldReturnOrder_whenIfNoneMatchIsStale() throws Exception {
+        when(orderService.getOrderRevision(1L)).thenReturn(new OrderRevision(0L, Instant.parse("2024-01-01T00:00:00Z")));
+        when(orderService.getOrderById(1L)).thenReturn(sampleOrderDto());
+
+        mockMvc.perform(get("/api/v1/orders/1").header(HttpHeaders.IF_NONE_MATCH, "\"7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 01 Jan 2024 00:00:00 GMT"))
+                .andExpect(jsonPath("$.data.id").value(1));
+    }
+
     @Test
     void shouldReturn404_whenGetOrderByIdCalledWithInvalidId() throws Exception {
         when(orderService.getOrderById(99L)).thenThrow(new NotFoundException("Order not found with id: 99"));
@@ -75,9 +359,46 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.success").value(false));
     }
 
+    @Test
+    void shouldCountNotFoundErrors_whenGetOrderByIdCalledWithInvalidId() throws Exception {
+        when(orderService.getOrderById(99L)).thenThrow(new NotFoundException("Order not found with id: 99"));
+        double before = notFoundCount();
+
+        mockMvc.perform(get("/api/v1/orders/99"))
+                .andExpect(status().isNotFound());
+
+        assertThat(notFoundCount()).isEqualTo(before + 1);
+    }
+
+    @Test
+    void shouldCountEachStatus_whenSameExceptionTypeMapsToDifferentStatuses() throws Exception {
+        when(orderService.getOrderById(1L)).thenThrow(new BaseException("Order archived", HttpStatus.GONE));
+        when(orderService.getOrderById(2L)).thenThrow(new BaseException("Order locked", HttpStatus.CONFLICT));
+        double goneBefore = errorCount("BaseException", "410");
+        double conflictBefore = errorCount("BaseException", "409");
+
+        mockMvc.perform(get("/api/v1/orders/1")).andExpect(status().isGone());
+        mockMvc.perform(get("/api/v1/orders/2")).andExpect(status().isConflict());
+
+        assertThat(errorCount("BaseException", "410")).isEqualTo(goneBefore + 1);
+        assertThat(errorCount("BaseException", "409")).isEqualTo(conflictBefore + 1);
+    }
+
+    private double notFoundCount() {
+        return errorCount("NotFoundException", "404");
+    }
+
+    private double errorCount(String exception, String status) {
+        Counter counter = meterRegistry.find("orders.errors")
+                .tag("exception", exception)
+                .tag("status", status)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
     @Test
     void shouldCreateOrder_whenCreateOrderCalledWithValidData() throws Exception {
-        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null);
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
         when(orderService.createOrder(any(OrderDto.class))).thenReturn(sampleOrderDto());
 
         mockMvc.perform(post("/api/v1/orders")
@@ -88,21 +409,202 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.data.id").value(1));
     }
 
+    @Test
+    void shouldReplayStoredOrder_whenCreateOrderRetriedWithSameIdempotencyKey() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(orderService.createOrder(any(OrderDto.class))).thenReturn(sampleOrderDto());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/v1/orders")
+                            .header("Idempotency-Key", "replay-key")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(input)))
+                    .andExpect(status().isCreated())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+                    .andExpect(jsonPath("$.data.id").value(1));
+        }
+        verify(orderService, times(1)).createOrder(any(OrderDto.class));
+    }
+
+    @Test
+    void shouldCreateSeparately_whenDifferentClientsUseSameIdempotencyKey() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(orderService.createOrder(any(OrderDto.class))).thenReturn(sampleOrderDto());
+
+        for (String client : List.of("client-a", "client-b")) {
+            mockMvc.perform(post("/api/v1/orders")
+                            .header("Idempotency-Key", "shared-key")
+                            .header("X-Client-Id", client)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(input)))
+                    .andExpect(status().isCreated());
+        }
+        verify(orderService, times(2)).createOrder(any(OrderDto.class));
+    }
+
+    @Test
+    void shouldReturn422_whenIdempotencyKeyReusedWithDifferentBody() throws Exception {
+        OrderDto first = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        OrderDto second = new OrderDto(null, 1L, "Phone", 1, new BigDecimal("500.00"), "PENDING", null, null, null);
+        when(orderService.createOrder(any(OrderDto.class))).thenReturn(sampleOrderDto());
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Idempotency-Key", "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(first)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .header("Idempotency-Key", "reused-key")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.success").value(false));
+        verify(orderService, times(1)).createOrder(any(OrderDto.class));
+    }
+
+    @Test
+    void shouldAcceptOrder_whenAsyncPipelineEnabled() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(orderPipeline.isEnabled()).thenReturn(true);
+        when(orderPipeline.submit(any(OrderDto.class))).thenReturn(OrderSubmission.pending("abc"));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "http://localhost/api/v1/orders/submissions/abc"))
+                .andExpect(jsonPath("$.data.trackingId").value("abc"))
+                .andExpect(jsonPath("$.data.state").value("PENDING"));
+        verify(orderService, never()).createOrder(any(OrderDto.class));
+    }
+
+    @Test
+    void shouldReturn429_whenAsyncPipelineQueueIsFull() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(orderPipeline.isEnabled()).thenReturn(true);
+        when(orderPipeline.submit(any(OrderDto.class))).thenThrow(new TooManyRequestsException("Order queue is full, retry later"));
+
+        mockMvc.perform(post("/api/v1/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void shouldReturnSubmission_whenGetSubmissionCalled() throws Exception {
+        when(orderPipeline.getSubmission("abc")).thenReturn(
+                new OrderSubmission("abc", OrderSubmission.State.CREATED, sampleOrderDto(), null));
+
+        mockMvc.perform(get("/api/v1/orders/submissions/abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.state").value("CREATED"))
+                .andExpect(jsonPath("$.data.order.id").value(1));
+    }
+
     @Test
     void shouldUpdateOrder_whenUpdateOrderCalledWithValidData() throws Exception {
-        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null);
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
         OrderDto updated = new OrderDto(1L, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED",
-                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-02T00:00:00Z"));
-        when(orderService.updateOrder(eq(1L), any(OrderDto.class))).thenReturn(updated);
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-02T00:00:00Z"), 1L);
+        when(orderService.updateOrder(eq(1L), any(OrderDto.class), isNull())).thenReturn(updated);
 
         mockMvc.perform(put("/api/v1/orders/1")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(input)))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.productName").value("Laptop Pro"));
     }
 
+    @Test
+    void shouldPassExpectedVersion_whenUpdateOrderCalledWithIfMatch() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        when(orderService.updateOrder(eq(1L), any(OrderDto.class), eq(0L)))
+                .thenThrow(new PreconditionFailedException("Order has been modified since version 0"));
+
+        mockMvc.perform(put("/api/v1/orders/1")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void shouldReadVersion_whenIfMatchCarriesRepresentationTag() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        when(orderService.updateOrder(eq(1L), any(OrderDto.class), eq(4L))).thenReturn(sampleOrderDto());
+
+        mockMvc.perform(put("/api/v1/orders/1")
+                        .header(HttpHeaders.IF_MATCH, "\"4-1a2b3c\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldReturn409_whenUpdateOrderConflicts() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        when(orderService.updateOrder(eq(1L), any(OrderDto.class), isNull()))
+                .thenThrow(new ConflictException("Order was modified concurrently: 1"));
+
+        mockMvc.perform(put("/api/v1/orders/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    void shouldReturn412_whenIfMatchIsNotAVersionTag() throws Exception {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+
+        mockMvc.perform(put("/api/v1/orders/1")
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(input)))
+                .andExpect(status().isPreconditionFailed());
+        verify(orderService, never()).updateOrder(any(), any(), any());
+    }
+
+    @Test
+    void shouldPatchOrder_whenPatchOrderCalledWithPartialBody() throws Exception {
+        OrderDto patched = new OrderDto(1L, 1L, "Laptop", 2, new BigDecimal("1500.00"), "SHIPPED",
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-02T00:00:00Z"), 3L);
+        when(orderService.patchOrder(eq(1L), eq(new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null)),
+                eq(2L))).thenReturn(patched);
+
+        mockMvc.perform(patch("/api/v1/orders/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"SHIPPED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.data.status").value("SHIPPED"))
+                .andExpect(jsonPath("$.data.version").value(3));
+    }
+
+    @Test
+    void shouldAllowPatchPreflight_whenCrossOriginClientPatchesOrder() throws Exception {
+        mockMvc.perform(options("/api/v1/orders/1")
+                        .header(HttpHeaders.ORIGIN, "http://localhost:3000")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, HttpHeaders.IF_MATCH))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+                        "GET,POST,PUT,PATCH,DELETE,OPTIONS"));
+    }
+
+    @Test
+    void shouldExposeETag_whenCrossOriginClientReadsOrder() throws Exception {
+        when(orderService.getOrderById(1L)).thenReturn(sampleOrderDto());
+
+        mockMvc.perform(get("/api/v1/orders/1").header(HttpHeaders.ORIGIN, "http://localhost:3000"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "ETag, Location, Link"));
+    }
+
     @Test
     void shouldReturn204_whenDeleteOrderCalledWithValidId() throws Exception {
         doNothing().when(orderService).deleteOrder(1L);
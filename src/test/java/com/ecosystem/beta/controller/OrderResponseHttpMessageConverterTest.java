@@ -0,0 +1,122 @@
+package com.ecosystem.beta.controller;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderResponseHttpMessageConverterTest {
+
+    private static final Type ORDER_LIST = new ParameterizedTypeReference<ApiResponse<List<OrderDto>>>() {}.getType();
+    private static final Type SINGLE_ORDER = new ParameterizedTypeReference<ApiResponse<OrderDto>>() {}.getType();
+    private static final Type SUBMISSION = new ParameterizedTypeReference<ApiResponse<String>>() {}.getType();
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final OrderResponseHttpMessageConverter converter = new OrderResponseHttpMessageConverter(objectMapper);
+    private final MappingJackson2HttpMessageConverter jackson = new MappingJackson2HttpMessageConverter(objectMapper);
+
+    @Test
+    void shouldMatchJacksonOutput_whenWritingOrderList() throws IOException {
+        List<OrderDto> orders = new ArrayList<>();
+        orders.add(order(3L, "Ancient", new BigDecimal("12.5"), Instant.parse("-0001-06-15T08:30:00Z"), 1L));
+        orders.add(order(1L, "Laptop", new BigDecimal("1500.00"), Instant.parse("2024-01-01T00:00:00Z"), 0L));
+        orders.add(order(2L, "Café \"quoted\" \\ \n\t\u0001 🚀", new BigDecimal("1E+3"),
+                Instant.parse("2024-02-29T23:59:59.123456789Z"), 12L));
+        orders.add(new OrderDto(null, null, null, null, null, null, null, null, null));
+        orders.add(null);
+
+        assertSameBytes(ApiResponse.ok(orders), ORDER_LIST);
+    }
+
+    @Test
+    void shouldMatchJacksonOutput_whenWritingEmptyListOrSingleOrder() throws IOException {
+        assertSameBytes(ApiResponse.ok(List.of()), ORDER_LIST);
+        assertSameBytes(ApiResponse.ok(order(7L, "Phone", new BigDecimal("0.10"),
+                Instant.parse("2024-01-01T00:00:00.500Z"), 3L)), SINGLE_ORDER);
+        assertSameBytes(new ApiResponse<>(false, "custom \"message\"", null), SINGLE_ORDER);
+        assertSameBytes(new ApiResponse<>(true, null, List.of()), ORDER_LIST);
+    }
+
+    @Test
+    void shouldOnlyClaimOrderResponses_whenAskedWhatItCanWrite() {
+        assertThat(converter.canWrite(ORDER_LIST, ApiResponse.class, MediaType.APPLICATION_JSON)).isTrue();
+        assertThat(converter.canWrite(SINGLE_ORDER, ApiResponse.class, null)).isTrue();
+        assertThat(converter.canWrite(SUBMISSION, ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canWrite(ORDER_LIST, ApiResponse.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(converter.canRead(ORDER_LIST, null, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void shouldStepAside_whenObjectMapperChangesDefaultOutput() {
+        ObjectMapper timestamps = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper indenting = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+
+        assertThat(new OrderResponseHttpMessageConverter(timestamps)
+                .canWrite(ORDER_LIST, ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+        assertThat(new OrderResponseHttpMessageConverter(indenting)
+                .canWrite(ORDER_LIST, ApiResponse.class, MediaType.APPLICATION_JSON)).isFalse();
+    }
+
+    @Test
+    void shouldFormatInstantsLikeIsoInstant_whenWritingTimestamps() {
+        Random random = new Random(42);
+        char[] buffer = new char[30];
+        List<Instant> instants = new ArrayList<>(List.of(Instant.EPOCH, Instant.parse("0000-01-01T00:00:00Z"),
+                Instant.parse("9999-12-31T23:59:59.999999999Z"), Instant.parse("1969-12-31T23:59:59.000001Z"),
+                Instant.parse("2000-02-29T12:00:00.010Z")));
+        for (int i = 0; i < 10_000; i++) {
+            long epochSecond = random.nextLong(Instant.parse("0000-01-01T00:00:00Z").getEpochSecond(),
+                    Instant.parse("9999-12-31T23:59:59Z").getEpochSecond());
+            int nano = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            instants.add(Instant.ofEpochSecond(epochSecond, nano));
+        }
+
+        for (Instant instant : instants) {
+            int length = OrderResponseHttpMessageConverter.formatInstant(instant, buffer);
+            assertThat(new String(buffer, 0, length)).isEqualTo(DateTimeFormatter.ISO_INSTANT.format(instant));
+        }
+        assertThat(OrderResponseHttpMessageConverter.formatInstant(Instant.parse("+10000-01-01T00:00:00Z"), buffer))
+                .isNegative();
+    }
+
+    private void assertSameBytes(ApiResponse<?> response, Type type) throws IOException {
+        MockHttpOutputMessage expected = new MockHttpOutputMessage();
+        jackson.write(response, type, MediaType.APPLICATION_JSON, expected);
+        MockHttpOutputMessage actual = new MockHttpOutputMessage();
+        converter.write(response, type, MediaType.APPLICATION_JSON, actual);
+
+        assertThat(actual.getBodyAsString(StandardCharsets.UTF_8)).isEqualTo(expected.getBodyAsString(StandardCharsets.UTF_8));
+        assertThat(actual.getBodyAsBytes()).isEqualTo(expected.getBodyAsBytes());
+        assertThat(actual.getHeaders().getContentType()).isEqualTo(expected.getHeaders().getContentType());
+    }
+
+    private static OrderDto order(Long id, String productName, BigDecimal totalPrice, Instant timestamp, Long version) {
+        return new OrderDto(id, 42L, productName, 2, totalPrice, "PENDING", timestamp, timestamp, version);
+    }
+}
@@ -0,0 +1,41 @@
+package com.ecosystem.beta.replica;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100, nanos::get);
+
+    @Test
+    void shouldPinClient_whenClientWroteWithinWindow() {
+        tracker.recordWrite("client-a");
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertThat(tracker.wroteRecently("client-a")).isTrue();
+        assertThat(tracker.wroteRecently("client-b")).isFalse();
+    }
+
+    @Test
+    void shouldReleaseClient_whenWindowExpires() {
+        tracker.recordWrite("client-a");
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        assertThat(tracker.wroteRecently("client-a")).isFalse();
+    }
+
+    @Test
+    void shouldRestartWindow_whenClientWritesAgain() {
+        tracker.recordWrite("client-a");
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+        tracker.recordWrite("client-a");
+        nanos.addAndGet(Duration.ofSeconds(4).toNanos());
+
+        assertThat(tracker.wroteRecently("client-a")).isTrue();
+    }
+}
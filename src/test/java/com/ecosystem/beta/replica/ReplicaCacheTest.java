@@ -0,0 +1,78 @@
+package com.ecosystem.beta.replica;
+
+import com.ecosystem.beta.client.UserServiceClient;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.service.OrderService;
+import com.ecosystem.common.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-cache-test-primary;DB_CLOSE_DELAY=-1",
+        "orders.replicas.enabled=true",
+        "orders.replicas.urls=jdbc:h2:mem:replica-cache-test-0;DB_CLOSE_DELAY=-1",
+        "orders.replicas.initialize-schema=true",
+        "orders.replicas.sticky-window=1h",
+        "orders.outbox.relay.enabled=false",
+        "orders.cache.enabled=true"
+})
+class ReplicaCacheTest {
+
+    private static final String COLUMNS = "id, user_id, product_name, quantity, total_price, status, created_at, "
+            + "updated_at, version";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ReplicaRoutingDataSource dataSources;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldNotCacheReplicaRead_whenReplicaLagsBehindDelete() {
+        asClient("writer");
+        OrderDto created = orderService.createOrder(
+                new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null));
+        replicate(created.id());
+        orderService.deleteOrder(created.id());
+
+        asClient("reader");
+        assertThat(orderService.getOrderById(created.id()).id()).isEqualTo(created.id());
+
+        asClient("writer");
+        assertThatThrownBy(() -> orderService.getOrderById(created.id())).isInstanceOf(NotFoundException.class);
+    }
+
+    private void replicate(Long id) {
+        Map<String, Object> row = new JdbcTemplate(dataSources.primary())
+                .queryForMap("select " + COLUMNS + " from orders where id = ?", id);
+        new JdbcTemplate(dataSources.replica(0))
+                .update("insert into orders (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?)", row.values().toArray());
+    }
+
+    private static void asClient(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Client-Id", client);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
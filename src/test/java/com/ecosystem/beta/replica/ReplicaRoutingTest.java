@@ -0,0 +1,174 @@
+package com.ecosystem.beta.replica;
+
+import com.ecosystem.beta.client.UserServiceClient;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.service.OrderService;
+import com.ecosystem.common.exception.NotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-test-primary;DB_CLOSE_DELAY=-1",
+        "orders.replicas.enabled=true",
+        "orders.replicas.urls=jdbc:h2:mem:replica-test-0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:replica-test-1;DB_CLOSE_DELAY=-1",
+        "orders.replicas.initialize-schema=true",
+        "orders.replicas.sticky-window=1h",
+        "orders.outbox.relay.enabled=false",
+        "orders.cache.enabled=false"
+})
+class ReplicaRoutingTest {
+
+    private static final String COLUMNS = "id, user_id, product_name, quantity, total_price, status, created_at, "
+            + "updated_at, version";
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ReplicaRoutingDataSource dataSources;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        jdbc(dataSources.primary()).update("delete from order_outbox");
+        jdbc(dataSources.primary()).update("delete from orders");
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void shouldWriteToPrimaryOnly_whenOrderCreated() {
+        asClient("writer");
+
+        OrderDto created = orderService.createOrder(order());
+
+        assertThat(countOrders(dataSources.primary(), created.id())).isEqualTo(1);
+        for (int replica = 0; replica < dataSources.replicaCount(); replica++) {
+            assertThat(countOrders(dataSources.replica(replica), created.id())).isZero();
+        }
+    }
+
+    @Test
+    void shouldReadFromLaggingReplica_whenClientHasNotWritten() {
+        asClient("writer");
+        OrderDto created = orderService.createOrder(order());
+
+        asClient("reader");
+        List<Long> streamed = new ArrayList<>();
+        orderService.streamOrders(OrderFilter.none(), null, order -> streamed.add(order.id()));
+
+        assertThatThrownBy(() -> orderService.getOrderById(created.id())).isInstanceOf(NotFoundException.class);
+        assertThat(orderService.getOrders(OrderFilter.none(), null, 10).orders()).isEmpty();
+        assertThat(streamed).isEmpty();
+
+        replicate();
+
+        assertThat(orderService.getOrderById(created.id()).id()).isEqualTo(created.id());
+        assertThat(orderService.getOrders(OrderFilter.none(), null, 10).orders())
+                .extracting(OrderDto::id).containsExactly(created.id());
+    }
+
+    @Test
+    void shouldReadOwnWrites_whenClientWroteWithinStickyWindow() {
+        asClient("writer");
+        OrderDto created = orderService.createOrder(order());
+
+        assertThat(orderService.getOrderById(created.id()).id()).isEqualTo(created.id());
+        assertThat(orderService.getOrders(OrderFilter.none(), null, 10).orders())
+                .extracting(OrderDto::id).containsExactly(created.id());
+        assertThat(orderService.getOrderRevision(created.id()).version()).isEqualTo(created.version());
+    }
+
+    @Test
+    void shouldTrackClientByRemoteAddress_whenHeaderMissing() {
+        fromAddress("10.0.0.1");
+        OrderDto created = orderService.createOrder(order());
+
+        assertThat(orderService.getOrderById(created.id()).id()).isEqualTo(created.id());
+
+        fromAddress("10.0.0.2");
+        assertThatThrownBy(() -> orderService.getOrderById(created.id())).isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void shouldSpreadReadsAndPublishPoolMetrics_whenSeveralReplicas() {
+        asClient("reader");
+
+        for (int i = 0; i < 4; i++) {
+            orderService.getOrders(OrderFilter.none(), null, 10);
+        }
+
+        for (String pool : List.of("orders-primary", "orders-replica-0", "orders-replica-1")) {
+            assertThat(meterRegistry.get("hikaricp.connections.max").tag("pool", pool).gauge().value())
+                    .isPositive();
+        }
+        for (String pool : List.of("orders-replica-0", "orders-replica-1")) {
+            assertThat(meterRegistry.get("hikaricp.connections.usage").tag("pool", pool).timer().count())
+                    .isGreaterThanOrEqualTo(2);
+        }
+    }
+
+    private void replicate() {
+        List<Map<String, Object>> rows = jdbc(dataSources.primary()).queryForList("select " + COLUMNS + " from orders");
+        for (int replica = 0; replica < dataSources.replicaCount(); replica++) {
+            JdbcTemplate jdbc = jdbc(dataSources.replica(replica));
+            jdbc.update("delete from orders");
+            for (Map<String, Object> row : rows) {
+                jdbc.update("insert into orders (" + COLUMNS + ") values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                        row.values().toArray());
+            }
+        }
+    }
+
+    private static int countOrders(DataSource dataSource, Long id) {
+        return jdbc(dataSource).queryForObject("select count(*) from orders where id = ?", Integer.class, id);
+    }
+
+    private static JdbcTemplate jdbc(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    private static void asClient(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-Client-Id", client);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static void fromAddress(String remoteAddress) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddress);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private static OrderDto order() {
+        return new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null);
+    }
+}
@@ -0,0 +1,86 @@
+package com.ecosystem.beta.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OrderQueryScalingTest {
+
+    private static final int ORDERS_PER_USER = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "SHIPPED", "DELIVERED"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long nextId = 1;
+
+    @Test
+    void shouldUseUserIndex_whenFilteringByUserId() {
+        seed(1_000);
+
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM orders WHERE user_id = 7 AND id > 0 ORDER BY id", String.class);
+
+        assertThat(plan).containsIgnoringCase("IDX_ORDERS_USER_ID_ID");
+    }
+
+    @Test
+    void shouldUseUserStatusIndex_whenFilteringByUserIdAndStatus() {
+        seed(1_000);
+
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id FROM orders WHERE user_id = 7 AND status = 'PENDING' AND id > 0 ORDER BY id",
+                String.class);
+
+        assertThat(plan).containsIgnoringCase("IDX_ORDERS_USER_ID_STATUS_ID");
+    }
+
+    @Test
+    void shouldScanSameRowsThroughIndex_whenTableGrows() {
+        seed(5_000);
+        String smallTablePlan = explainFilteredPage(7);
+
+        seed(45_000);
+        String largeTablePlan = explainFilteredPage(7);
+
+        assertThat(largeTablePlan).containsIgnoringCase("IDX_ORDERS_USER_ID_STATUS_ID");
+        assertThat(scanCount(largeTablePlan)).isEqualTo(scanCount(smallTablePlan)).isLessThanOrEqualTo(PAGE_SIZE);
+    }
+
+    private String explainFilteredPage(long userId) {
+        return jdbcTemplate.queryForObject("EXPLAIN ANALYZE SELECT id FROM orders WHERE user_id = ? "
+                + "AND status = 'PENDING' ORDER BY id FETCH FIRST " + PAGE_SIZE + " ROWS ONLY", String.class, userId);
+    }
+
+    private static int scanCount(String plan) {
+        Matcher scanCount = SCAN_COUNT.matcher(plan);
+        assertThat(scanCount.find()).as("scan count in %s", plan).isTrue();
+        return Integer.parseInt(scanCount.group(1));
+    }
+
+    private void seed(int count) {
+        Timestamp createdAt = Timestamp.from(Instant.parse("2024-01-01T00:00:00Z"));
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = nextId++;
+            long userId = 1 + (id - 1) / ORDERS_PER_USER;
+            rows.add(new Object[]{id, userId, "Product " + id, 1, 10, STATUSES[(int) (id % STATUSES.length)],
+                    createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO orders (id, user_id, product_name, quantity, total_price, status, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+}
@@ -1,14 +1,24 @@
 package com.ecosystem.beta.repository;
 
+import com.ecosystem.beta.dto.OrderAggregate;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderRevision;
 import com.ecosystem.beta.model.Order;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -88,4 +98,148 @@ class OrderRepositoryTest {
     void shouldReturnFalse_whenOrderDoesNotExistById() {
         assertThat(orderRepository.existsById(999L)).isFalse();
     }
+
+    @Test
+    void shouldReturnOrdersAfterCursorInIdOrder_whenFindByIdGreaterThanCalled() {
+        Order first = orderRepository.save(createOrder("Laptop", 1L, "PENDING"));
+        Order second = orderRepository.save(createOrder("Phone", 1L, "PENDING"));
+        Order third = orderRepository.save(createOrder("Tablet", 1L, "PENDING"));
+
+        List<Order> page = orderRepository.findByIdGreaterThanOrderByIdAsc(first.getId(), Limit.of(1));
+
+        assertThat(page).extracting(Order::getId).containsExactly(second.getId());
+        assertThat(orderRepository.findByIdGreaterThanOrderByIdAsc(second.getId(), Limit.of(10)))
+                .extracting(Order::getId).containsExactly(third.getId());
+    }
+
+    @Test
+    void shouldStreamOrdersInIdOrder_whenStreamAllCalled() {
+        Order first = orderRepository.save(createOrder("Laptop", 1L, "PENDING"));
+        Order second = orderRepository.save(createOrder("Phone", 2L, "PENDING"));
+
+        try (Stream<Order> orders = orderRepository.streamAllByOrderByIdAsc()) {
+            assertThat(orders.map(Order::getId).toList()).containsSubsequence(first.getId(), second.getId());
+        }
+    }
+
+    @Test
+    void shouldReturnMatchingOrdersInIdOrder_whenFindByFilterSpecificationCalled() {
+        Order matching = createOrder("Laptop", 7L, "PENDING");
+        matching.setCreatedAt(Instant.parse("2024-01-10T00:00:00Z"));
+        Order otherStatus = createOrder("Phone", 7L, "CONFIRMED");
+        otherStatus.setCreatedAt(Instant.parse("2024-01-10T00:00:00Z"));
+        Order tooLate = createOrder("Tablet", 7L, "PENDING");
+        tooLate.setCreatedAt(Instant.parse("2024-02-10T00:00:00Z"));
+        Order otherUser = createOrder("Monitor", 8L, "PENDING");
+        otherUser.setCreatedAt(Instant.parse("2024-01-10T00:00:00Z"));
+        Order second = createOrder("Mouse", 7L, "PENDING");
+        second.setCreatedAt(Instant.parse("2024-01-20T00:00:00Z"));
+        orderRepository.saveAll(List.of(matching, otherStatus, tooLate, otherUser, second));
+        OrderFilter filter = new OrderFilter(7L, "PENDING", Instant.parse("2024-01-01T00:00:00Z"),
+                Instant.parse("2024-02-01T00:00:00Z"));
+
+        List<Order> firstPage = orderRepository.findBy(OrderSpecifications.matching(filter, null),
+                query -> query.sortBy(Sort.by("id")).limit(1).all());
+        List<Order> nextPage = orderRepository.findBy(OrderSpecifications.matching(filter, matching.getId()),
+                query -> query.sortBy(Sort.by("id")).limit(10).all());
+
+        assertThat(firstPage).extracting(Order::getId).containsExactly(matching.getId());
+        assertThat(nextPage).extracting(Order::getId).containsExactly(second.getId());
+    }
+
+    @Test
+    void shouldIncrementVersion_whenOrderUpdated() {
+        Order saved = orderRepository.saveAndFlush(createOrder("Laptop", 1L, "PENDING"));
+        Long initialVersion = saved.getVersion();
+
+        saved.setStatus("CONFIRMED");
+        Order updated = orderRepository.saveAndFlush(saved);
+
+        assertThat(updated.getVersion()).isEqualTo(initialVersion + 1);
+    }
+
+    @Test
+    void shouldKeepBothChanges_whenPatchesTouchDifferentColumns() {
+        Order saved = orderRepository.saveAndFlush(createOrder("Laptop", 1L, "PENDING"));
+        Instant now = Instant.now();
+
+        orderRepository.patch(saved.getId(), new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null),
+                null, now);
+        orderRepository.patch(saved.getId(), new OrderDto(null, null, null, 5, null, null, null, null, null),
+                null, now);
+
+        Order reloaded = orderRepository.findById(saved.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo("SHIPPED");
+        assertThat(reloaded.getQuantity()).isEqualTo(5);
+        assertThat(reloaded.getProductName()).isEqualTo("Laptop");
+        assertThat(reloaded.getVersion()).isEqualTo(saved.getVersion() + 2);
+    }
+
+    @Test
+    void shouldNotPatch_whenExpectedVersionIsStale() {
+        Order saved = orderRepository.saveAndFlush(createOrder("Laptop", 1L, "PENDING"));
+
+        int updated = orderRepository.patch(saved.getId(),
+                new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null), saved.getVersion() + 1,
+                Instant.now());
+
+        assertThat(updated).isZero();
+        assertThat(orderRepository.findById(saved.getId()).orElseThrow().getStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    void shouldReturnVersionAndUpdatedAt_whenFindRevisionByIdCalled() {
+        Order order = createOrder("Laptop", 1L, "PENDING");
+        order.setUpdatedAt(Instant.parse("2024-01-01T00:00:00Z"));
+        Order saved = orderRepository.saveAndFlush(order);
+
+        Optional<OrderRevision> revision = orderRepository.findRevisionById(saved.getId());
+
+        assertThat(revision).contains(new OrderRevision(saved.getVersion(), Instant.parse("2024-01-01T00:00:00Z")));
+        assertThat(orderRepository.findRevisionById(999L)).isEmpty();
+    }
+
+    @Test
+    void shouldGroupCountsAndSums_whenAggregateByUserIdAndStatusCalled() {
+        Order first = createOrder("Laptop", 4242L, "PENDING");
+        first.setQuantity(2);
+        Order second = createOrder("Phone", 4242L, "PENDING");
+        second.setTotalPrice(new BigDecimal("50.50"));
+        orderRepository.saveAllAndFlush(List.of(first, second, createOrder("Tablet", 4242L, "SHIPPED")));
+
+        List<OrderAggregate> aggregates = orderRepository.aggregateByUserIdAndStatus().stream()
+                .filter(aggregate -> Long.valueOf(4242L).equals(aggregate.userId()))
+                .toList();
+
+        assertThat(aggregates).containsExactlyInAnyOrder(
+                new OrderAggregate(4242L, "PENDING", 2L, 3L, new BigDecimal("150.50")),
+                new OrderAggregate(4242L, "SHIPPED", 1L, 1L, new BigDecimal("100.00")));
+    }
+
+    @Test
+    void shouldDeleteOnlyMatchingVersion_whenDeleteByIdAndVersionCalled() {
+        Order saved = orderRepository.saveAndFlush(createOrder("Laptop", 1L, "PENDING"));
+
+        assertThat(orderRepository.deleteByIdAndVersion(saved.getId(), saved.getVersion() + 1)).isZero();
+        assertThat(orderRepository.deleteByIdAndVersion(saved.getId(), saved.getVersion())).isEqualTo(1);
+        assertThat(orderRepository.existsById(saved.getId())).isFalse();
+    }
+
+    @Test
+    void shouldReturnOnlyRequestedColumns_whenFindProjectedCalled() {
+        Order first = orderRepository.save(createOrder("Laptop", 77L, "PENDING"));
+        orderRepository.save(createOrder("Phone", 77L, "SHIPPED"));
+        Order third = orderRepository.saveAndFlush(createOrder("Tablet", 77L, "PENDING"));
+        OrderFilter filter = new OrderFilter(77L, "PENDING", null, null);
+
+        List<Map<String, Object>> page = orderRepository.findProjected(OrderSpecifications.matching(filter, null),
+                EnumSet.of(OrderField.ID, OrderField.STATUS, OrderField.TOTAL_PRICE), 10);
+
+        assertThat(page).containsExactly(
+                Map.of("id", first.getId(), "status", "PENDING", "totalPrice", new BigDecimal("100.00")),
+                Map.of("id", third.getId(), "status", "PENDING", "totalPrice", new BigDecimal("100.00")));
+        assertThat(page.get(0).keySet()).containsExactly("id", "totalPrice", "status");
+        assertThat(orderRepository.findProjected(OrderSpecifications.matching(filter, first.getId()),
+                EnumSet.of(OrderField.ID), 10)).containsExactly(Map.of("id", third.getId()));
+    }
 }
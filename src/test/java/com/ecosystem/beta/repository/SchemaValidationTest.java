@@ -0,0 +1,40 @@
+package com.ecosystem.beta.repository;
+
+import com.ecosystem.beta.model.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("fast-startup")
+class SchemaValidationTest {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void shouldSaveOrder_whenSchemaCreatedFromScriptAndValidated() {
+        Order order = new Order();
+        order.setUserId(1L);
+        order.setProductName("Laptop");
+        order.setQuantity(1);
+        order.setTotalPrice(new BigDecimal("100.00"));
+        order.setStatus("PENDING");
+        order.setCreatedAt(Instant.now());
+        order.setUpdatedAt(Instant.now());
+
+        Order saved = orderRepository.saveAndFlush(order);
+
+        assertThat(orderRepository.findById(saved.getId())).isPresent();
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+}
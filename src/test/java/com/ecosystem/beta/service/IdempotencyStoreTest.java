@@ -0,0 +1,128 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.UnprocessableEntityException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        store = new IdempotencyStore(true, 100, Duration.ofHours(24), meterRegistry, nanos::get);
+    }
+
+    private String create() {
+        return "order-" + executions.incrementAndGet();
+    }
+
+    @Test
+    void shouldReplayStoredResult_whenSameKeyUsedAgain() {
+        String first = store.execute("client", "key", "request", this::create);
+        String second = store.execute("client", "key", "request", this::create);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+        assertThat(meterRegistry.get("orders.idempotency.replays").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExecuteEveryTime_whenNoKeyGiven() {
+        store.execute("client", null, "request", this::create);
+        store.execute("client", null, "request", this::create);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldRejectReuse_whenRequestDiffers() {
+        store.execute("client", "key", "request", this::create);
+
+        assertThatThrownBy(() -> store.execute("client", "key", "other request", this::create))
+                .isInstanceOf(UnprocessableEntityException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldExecuteAgain_whenPreviousAttemptFailed() {
+        assertThatThrownBy(() -> store.execute("client", "key", "request", () -> {
+            throw NotFoundException.stackless("User not found with id: 1");
+        })).isInstanceOf(NotFoundException.class);
+
+        assertThat(store.execute("client", "key", "request", this::create)).isEqualTo("order-1");
+    }
+
+    @Test
+    void shouldExecuteSeparately_whenClientsShareKey() {
+        String first = store.execute("client-a", "key", "request", this::create);
+        String second = store.execute("client-b", "key", "request", this::create);
+
+        assertThat(first).isEqualTo("order-1");
+        assertThat(second).isEqualTo("order-2");
+    }
+
+    @Test
+    void shouldExecuteAgain_whenPreviousAttemptThrewError() throws Exception {
+        assertThatThrownBy(() -> store.execute("client", "key", "request", () -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+
+        CompletableFuture<String> retry = CompletableFuture.supplyAsync(
+                () -> store.execute("client", "key", "request", this::create));
+
+        assertThat(retry.get(5, TimeUnit.SECONDS)).isEqualTo("order-1");
+    }
+
+    @Test
+    void shouldExecuteAgain_whenTtlExpires() {
+        store.execute("client", "key", "request", this::create);
+        nanos.addAndGet(Duration.ofHours(25).toNanos());
+
+        assertThat(store.execute("client", "key", "request", this::create)).isEqualTo("order-2");
+    }
+
+    @Test
+    void shouldExecuteOnce_whenSameKeyRequestedConcurrently() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> store.execute("client", "key", "request", () -> {
+            started.countDown();
+            await(release);
+            return create();
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(
+                () -> store.execute("client", "key", "request", this::create));
+
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("order-1");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("order-1");
+        assertThat(executions).hasValue(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
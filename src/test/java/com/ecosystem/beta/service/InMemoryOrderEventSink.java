@@ -0,0 +1,28 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderEvent;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class InMemoryOrderEventSink implements OrderEventSink {
+
+    private final List<OrderEvent> events = new CopyOnWriteArrayList<>();
+    private volatile RuntimeException failure;
+
+    @Override
+    public void publish(List<OrderEvent> batch) {
+        if (failure != null) {
+            throw failure;
+        }
+        events.addAll(batch);
+    }
+
+    List<OrderEvent> events() {
+        return List.copyOf(events);
+    }
+
+    void failWith(RuntimeException failure) {
+        this.failure = failure;
+    }
+}
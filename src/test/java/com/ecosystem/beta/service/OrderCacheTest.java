@@ -0,0 +1,104 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private OrderCache orderCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderCache = new OrderCache(true, 100, Duration.ofMinutes(10), meterRegistry, nanos::get);
+    }
+
+    private OrderDto sampleOrderDto(Long id, String productName) {
+        return new OrderDto(id, 1L, productName, 2, new BigDecimal("1500.00"), "PENDING",
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"), null);
+    }
+
+    private Optional<OrderDto> loadOrder(Long id) {
+        loads.incrementAndGet();
+        return Optional.of(sampleOrderDto(id, "Laptop"));
+    }
+
+    private Optional<OrderDto> loadMissingOrder(Long id) {
+        loads.incrementAndGet();
+        return Optional.empty();
+    }
+
+    @Test
+    void shouldLoadOnce_whenSameOrderRequestedRepeatedly() {
+        orderCache.get(1L, this::loadOrder);
+        Optional<OrderDto> result = orderCache.get(1L, this::loadOrder);
+
+        assertThat(result).map(OrderDto::id).contains(1L);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", OrderCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheMissingOrder_whenLoaderReturnsEmpty() {
+        orderCache.get(1L, this::loadMissingOrder);
+        Optional<OrderDto> result = orderCache.get(1L, this::loadOrder);
+
+        assertThat(result).isPresent();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReturnWrittenOrder_whenOrderPut() {
+        orderCache.get(1L, this::loadOrder);
+
+        orderCache.put(sampleOrderDto(1L, "Laptop Pro"));
+
+        assertThat(orderCache.get(1L, this::loadOrder)).map(OrderDto::productName).contains("Laptop Pro");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldReload_whenOrderInvalidated() {
+        orderCache.get(1L, this::loadOrder);
+
+        orderCache.invalidate(1L);
+        orderCache.get(1L, this::loadOrder);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldReload_whenTtlExpires() {
+        orderCache.get(1L, this::loadOrder);
+        nanos.addAndGet(Duration.ofMinutes(11).toNanos());
+
+        orderCache.get(1L, this::loadOrder);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldBypassCache_whenDisabled() {
+        OrderCache disabled = new OrderCache(false, 0, Duration.ZERO, meterRegistry);
+
+        disabled.get(1L, this::loadOrder);
+        disabled.get(1L, this::loadOrder);
+
+        assertThat(loads).hasValue(2);
+    }
+}
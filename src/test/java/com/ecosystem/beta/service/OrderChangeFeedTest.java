@@ -0,0 +1,160 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderChangeFeedTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private SimpleMeterRegistry meterRegistry;
+    private OrderChangeLog changeLog;
+    private OrderChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        changeLog = new OrderChangeLog(4);
+        feed = newFeed(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        feed.stop();
+    }
+
+    @Test
+    void shouldKeepDeliveringToOthers_whenOneSubscriberStalls() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        feed.subscribe(0L, new StallingEmitter(stalled));
+        RecordingEmitter healthy = new RecordingEmitter();
+        feed.subscribe(0L, healthy);
+
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        changeLog.append(OrderChange.Type.CREATED, 2L, null);
+        changeLog.append(OrderChange.Type.CREATED, 3L, null);
+
+        awaitTrue(() -> healthy.events.size() >= 3);
+        assertThat(healthy.events).hasSize(3);
+    }
+
+    @Test
+    void shouldDropSubscriber_whenStalledPastRetainedBacklog() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        feed.subscribe(0L, new StallingEmitter(stalled));
+        RecordingEmitter healthy = new RecordingEmitter();
+        feed.subscribe(0L, healthy);
+
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int orderId = 2; orderId <= 6; orderId++) {
+            int delivered = orderId;
+            changeLog.append(OrderChange.Type.CREATED, (long) orderId, null);
+            awaitTrue(() -> healthy.events.size() >= delivered);
+        }
+
+        awaitTrue(() -> meterRegistry.get("orders.changes.subscribers").gauge().value() == 1);
+        assertThat(meterRegistry.get("orders.changes.subscribers").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepDeliveringToOthers_whenManySubscribersStall() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(16);
+        for (int i = 0; i < 16; i++) {
+            feed.subscribe(0L, new StallingEmitter(stalled));
+        }
+        RecordingEmitter healthy = new RecordingEmitter();
+        feed.subscribe(0L, healthy);
+
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+        changeLog.append(OrderChange.Type.CREATED, 2L, null);
+
+        awaitTrue(() -> healthy.events.size() >= 2);
+        assertThat(healthy.events).hasSize(2);
+    }
+
+    @Test
+    void shouldCompleteStalledStreamWithError_whenSendExceedsTimeout() throws Exception {
+        feed.stop();
+        feed = newFeed(Duration.ofMillis(100));
+        CountDownLatch stalled = new CountDownLatch(1);
+        StallingEmitter stalling = new StallingEmitter(stalled);
+        feed.subscribe(0L, stalling);
+
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        assertThat(stalled.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(stalling.failure.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("orders.changes.subscribers").gauge().value()).isZero();
+    }
+
+    private OrderChangeFeed newFeed(Duration sendTimeout) {
+        OrderChangeFeed created = new OrderChangeFeed(changeLog, Duration.ofMillis(50), Duration.ofMinutes(1),
+                sendTimeout, meterRegistry);
+        created.start();
+        return created;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private class StallingEmitter extends SseEmitter {
+
+        private final CountDownLatch stalled;
+        private final CountDownLatch failure = new CountDownLatch(1);
+
+        private StallingEmitter(CountDownLatch stalled) {
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            stalled.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            failure.countDown();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final Queue<Set<DataWithMediaType>> events = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            Set<DataWithMediaType> event = builder.build();
+            if (event.stream().anyMatch(data -> MediaType.APPLICATION_JSON.equals(data.getMediaType()))) {
+                events.add(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderChange;
+import com.ecosystem.common.exception.GoneException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderChangeLogTest {
+
+    private final OrderChangeLog changeLog = new OrderChangeLog(3);
+
+    @Test
+    void shouldAssignIncreasingOffsets_whenChangesAppended() {
+        long first = changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        long second = changeLog.append(OrderChange.Type.UPDATED, 1L, null);
+
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(changeLog.latestOffset()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnChangesAfterOffset_whenReadAfterCalled() {
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+        changeLog.append(OrderChange.Type.UPDATED, 1L, null);
+        changeLog.append(OrderChange.Type.DELETED, 1L, null);
+
+        assertThat(changeLog.readAfter(1, 10)).extracting(OrderChange::offset).containsExactly(2L, 3L);
+        assertThat(changeLog.readAfter(0, 2)).extracting(OrderChange::offset).containsExactly(1L, 2L);
+        assertThat(changeLog.readAfter(3, 10)).isEmpty();
+    }
+
+    @Test
+    void shouldKeepOnlyBacklogSize_whenRingBufferWraps() {
+        for (long id = 1; id <= 5; id++) {
+            changeLog.append(OrderChange.Type.CREATED, id, null);
+        }
+
+        assertThat(changeLog.readAfter(2, 10)).extracting(OrderChange::orderId).containsExactly(3L, 4L, 5L);
+        assertThat(changeLog.isRetained(1)).isFalse();
+        assertThatThrownBy(() -> changeLog.readAfter(1, 10)).isInstanceOf(GoneException.class);
+    }
+
+    @Test
+    void shouldRejectOffset_whenAheadOfLatest() {
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+
+        assertThat(changeLog.isRetained(2)).isFalse();
+    }
+
+    @Test
+    void shouldWakeWaiter_whenChangeAppended() throws Exception {
+        CompletableFuture<Void> waiter = CompletableFuture.runAsync(() -> {
+            try {
+                changeLog.awaitAfter(0, Duration.ofSeconds(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        changeLog.append(OrderChange.Type.CREATED, 1L, null);
+
+        waiter.get(5, TimeUnit.SECONDS);
+    }
+}
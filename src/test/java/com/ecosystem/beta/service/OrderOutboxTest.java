@@ -0,0 +1,66 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.model.OutboxEvent;
+import com.ecosystem.beta.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({OrderOutbox.class, JacksonAutoConfiguration.class})
+class OrderOutboxTest {
+
+    @Autowired
+    private OrderOutbox orderOutbox;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void shouldStoreCreatedEventWithOrderPayload_whenRecordCreatedCalled() {
+        orderOutbox.recordCreated(List.of(sampleOrder(42L)));
+
+        assertThat(outboxEventRepository.findAll()).singleElement().satisfies(event -> {
+            assertThat(event.getEventType()).isEqualTo(OrderOutbox.ORDER_CREATED);
+            assertThat(event.getOrderId()).isEqualTo(42L);
+            assertThat(event.getPayload()).contains("\"id\":42", "\"productName\":\"Laptop\"");
+            assertThat(event.getCreatedAt()).isNotNull();
+        });
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRefuseToRecord_whenNoTransactionIsActive() {
+        assertThatThrownBy(() -> orderOutbox.recordCreated(List.of(sampleOrder(1L))))
+                .isInstanceOf(IllegalTransactionStateException.class);
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldReturnOldestEventsFirst_whenReadingABatch() {
+        orderOutbox.recordCreated(List.of(sampleOrder(1L), sampleOrder(2L), sampleOrder(3L)));
+
+        List<OutboxEvent> batch = outboxEventRepository.findAllByOrderByIdAsc(Limit.of(2));
+
+        assertThat(batch).extracting(OutboxEvent::getOrderId).containsExactly(1L, 2L);
+    }
+
+    private static OrderDto sampleOrder(Long id) {
+        return new OrderDto(id, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING",
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"), 0L);
+    }
+}
@@ -0,0 +1,130 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderSubmission;
+import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.ServiceUnavailableException;
+import com.ecosystem.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPipelineTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderPipeline orderPipeline;
+
+    @AfterEach
+    void tearDown() {
+        if (orderPipeline != null) {
+            orderPipeline.stop();
+        }
+    }
+
+    private OrderPipeline pipeline(int queueCapacity) {
+        orderPipeline = new OrderPipeline(orderService, true, queueCapacity, 10, Duration.ofMinutes(1), 100,
+                meterRegistry);
+        return orderPipeline;
+    }
+
+    private OrderDto sampleInput(Long userId) {
+        return new OrderDto(null, userId, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
+    }
+
+    private OrderDto created(Long id, Long userId) {
+        return new OrderDto(id, userId, "Laptop", 2, new BigDecimal("1500.00"), "PENDING",
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"), null);
+    }
+
+    @Test
+    void shouldReturnPendingSubmission_whenOrderQueued() {
+        OrderPipeline pipeline = pipeline(10);
+
+        OrderSubmission submission = pipeline.submit(sampleInput(1L));
+
+        assertThat(submission.state()).isEqualTo(OrderSubmission.State.PENDING);
+        assertThat(pipeline.getSubmission(submission.trackingId())).isEqualTo(submission);
+        assertThat(meterRegistry.get("orders.pipeline.queue.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowTooManyRequests_whenQueueIsFull() {
+        OrderPipeline pipeline = pipeline(1);
+        pipeline.submit(sampleInput(1L));
+
+        Throwable first = catchThrowable(() -> pipeline.submit(sampleInput(2L)));
+        Throwable second = catchThrowable(() -> pipeline.submit(sampleInput(3L)));
+
+        assertThat(first).isInstanceOf(TooManyRequestsException.class).isSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(meterRegistry.get("orders.pipeline.rejected").counter().count()).isEqualTo(2);
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    void shouldThrowNotFound_whenTrackingIdUnknown() {
+        OrderPipeline pipeline = pipeline(10);
+
+        assertThatThrownBy(() -> pipeline.getSubmission("unknown"))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRecordOutcomePerOrder_whenBatchProcessed() {
+        when(orderService.createOrders(any(Stream.class))).thenReturn(List.of(
+                new OrderBatchItemResult(0, 201, created(10L, 1L), null),
+                new OrderBatchItemResult(1, 404, null, "User not found with id: 99")));
+        OrderPipeline pipeline = pipeline(10);
+        OrderSubmission first = pipeline.submit(sampleInput(1L));
+        OrderSubmission second = pipeline.submit(sampleInput(99L));
+
+        pipeline.start();
+        pipeline.stop();
+
+        assertThat(pipeline.getSubmission(first.trackingId()).state()).isEqualTo(OrderSubmission.State.CREATED);
+        assertThat(pipeline.getSubmission(first.trackingId()).order().id()).isEqualTo(10L);
+        assertThat(pipeline.getSubmission(second.trackingId()).state()).isEqualTo(OrderSubmission.State.REJECTED);
+        assertThat(pipeline.getSubmission(second.trackingId()).message()).isEqualTo("User not found with id: 99");
+        verify(orderService).createOrders(any(Stream.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMarkBatchFailed_whenCreateOrdersThrows() {
+        when(orderService.createOrders(any(Stream.class)))
+                .thenThrow(new ServiceUnavailableException("service-alpha is unavailable"));
+        OrderPipeline pipeline = pipeline(10);
+        OrderSubmission submission = pipeline.submit(sampleInput(1L));
+
+        pipeline.start();
+        pipeline.stop();
+
+        OrderSubmission outcome = pipeline.getSubmission(submission.trackingId());
+        assertThat(outcome.state()).isEqualTo(OrderSubmission.State.FAILED);
+        assertThat(outcome.message()).isEqualTo("service-alpha is unavailable");
+    }
+}
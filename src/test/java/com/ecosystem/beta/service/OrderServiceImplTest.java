@@ -1,25 +1,57 @@
 package com.ecosystem.beta.service;
 
+import com.ecosystem.beta.client.UserLookupResult;
 import com.ecosystem.beta.client.UserServiceClient;
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderChange;
 import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderField;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.dto.OrderProjectionPage;
+import com.ecosystem.beta.dto.OrderRevision;
+import com.ecosystem.beta.dto.OrderTotals;
 import com.ecosystem.beta.model.Order;
-import com.ecosystem.beta.repository.OrderRepository;
+import com.ecosystem.beta.repository.OrderStore;
 import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.ConflictException;
 import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.exception.PreconditionFailedException;
+import com.ecosystem.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,14 +59,36 @@ import static org.mockito.Mockito.when;
 class OrderServiceImplTest {
 
     @Mock
-    private OrderRepository orderRepository;
+    private OrderStore orderStore;
 
     @Mock
     private UserServiceClient userServiceClient;
 
-    @InjectMocks
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private OrderOutbox orderOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderChangeLog changeLog;
+
+    private OrderStatistics statistics;
+
     private OrderServiceImpl orderService;
 
+    @BeforeEach
+    void setUp() {
+        OrderCache orderCache = new OrderCache(true, 100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        changeLog = new OrderChangeLog(100);
+        statistics = new OrderStatistics(orderStore);
+        lenient().doCallRealMethod().when(orderStore).writeInGroups(anyList(), any());
+        orderService = new OrderServiceImpl(orderStore, userServiceClient, entityManager, orderCache, changeLog,
+                orderOutbox, statistics, new TransactionTemplate(transactionManager), 2);
+    }
+
     private Order sampleOrder() {
         Order order = new Order();
         order.setId(1L);
@@ -49,23 +103,87 @@ class OrderServiceImplTest {
     }
 
     private UserDto sampleUserDto() {
-        return new UserDto(1L, "john.doe", "john@example.com", "John Doe",
-                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00Z"));
+        return new UserDto(1L, "john.doe", "john@example.com", "John", "Doe",
+                Instant.parse("2024-01-01T00:00:00Z"));
+    }
+
+    @Test
+    void shouldReturnFirstPage_whenGetOrdersCalledWithoutCursor() {
+        when(orderStore.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(10))).thenReturn(List.of(sampleOrder()));
+
+        OrderPage result = orderService.getOrders(OrderFilter.none(), null, 10);
+
+        assertThat(result.orders()).hasSize(1);
+        assertThat(result.orders().get(0).productName()).isEqualTo("Laptop");
+        assertThat(result.nextAfter()).isNull();
     }
 
     @Test
-    void shouldReturnAllOrders_whenGetAllOrdersCalled() {
-        when(orderRepository.findAll()).thenReturn(List.of(sampleOrder()));
+    void shouldReturnNextCursor_whenGetOrdersFillsPage() {
+        when(orderStore.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(1))).thenReturn(List.of(sampleOrder()));
 
-        List<OrderDto> result = orderService.getAllOrders();
+        OrderPage result = orderService.getOrders(OrderFilter.none(), 5L, 1);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).productName()).isEqualTo("Laptop");
+        assertThat(result.nextAfter()).isEqualTo(1L);
+    }
+
+    @Test
+    void shouldQueryByFilter_whenGetOrdersCalledWithFilter() {
+        OrderFilter filter = new OrderFilter(1L, "PENDING", null, null);
+        when(orderStore.findMatching(filter, null, Limit.of(10))).thenReturn(List.of(sampleOrder()));
+
+        OrderPage result = orderService.getOrders(filter, null, 10);
+
+        assertThat(result.orders()).extracting(OrderDto::userId).containsExactly(1L);
+        verify(orderStore, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+    }
+
+    @Test
+    void shouldClampPageSize_whenGetOrdersCalledWithExcessiveLimit() {
+        orderService.getOrders(OrderFilter.none(), null, 1_000_000);
+
+        verify(orderStore).findByIdGreaterThanOrderByIdAsc(0L, Limit.of(OrderServiceImpl.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void shouldPassEveryOrderToConsumer_whenStreamOrdersCalled() {
+        Order order = sampleOrder();
+        when(orderStore.streamAllByOrderByIdAsc()).thenReturn(Stream.of(order));
+        List<OrderDto> streamed = new ArrayList<>();
+
+        orderService.streamOrders(OrderFilter.none(), null, streamed::add);
+
+        assertThat(streamed).extracting(OrderDto::id).containsExactly(1L);
+        verify(entityManager).detach(order);
+    }
+
+    @Test
+    void shouldPageThroughMatches_whenStreamOrdersCalledWithFilter() {
+        List<Order> firstPage = new ArrayList<>();
+        for (long id = 1; id <= OrderServiceImpl.STREAM_PAGE_SIZE; id++) {
+            Order order = sampleOrder();
+            order.setId(id);
+            firstPage.add(order);
+        }
+        Order last = sampleOrder();
+        last.setId(OrderServiceImpl.STREAM_PAGE_SIZE + 1L);
+        OrderFilter filter = new OrderFilter(1L, null, null, null);
+        Limit pageLimit = Limit.of(OrderServiceImpl.STREAM_PAGE_SIZE);
+        when(orderStore.findMatching(filter, null, pageLimit)).thenReturn(firstPage);
+        when(orderStore.findMatching(filter, (long) OrderServiceImpl.STREAM_PAGE_SIZE, pageLimit))
+                .thenReturn(List.of(last));
+        List<OrderDto> streamed = new ArrayList<>();
+
+        orderService.streamOrders(filter, null, streamed::add);
+
+        assertThat(streamed).hasSize(OrderServiceImpl.STREAM_PAGE_SIZE + 1);
+        verify(orderStore, times(2)).findMatching(eq(filter), any(), eq(pageLimit));
+        verify(orderStore, never()).streamAllByOrderByIdAsc();
     }
 
     @Test
     void shouldReturnOrder_whenGetOrderByIdCalledWithValidId() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(sampleOrder()));
+        when(orderStore.findById(1L)).thenReturn(Optional.of(sampleOrder()));
 
         OrderDto result = orderService.getOrderById(1L);
 
@@ -75,29 +193,140 @@ class OrderServiceImplTest {
 
     @Test
     void shouldThrowNotFoundException_whenGetOrderByIdCalledWithInvalidId() {
-        when(orderRepository.findById(99L)).thenReturn(Optional.empty());
+        when(orderStore.findById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> orderService.getOrderById(99L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessageContaining("99")
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    }
+
+    @Test
+    void shouldReturnNextCursor_whenProjectedPageIsFull() {
+        Set<OrderField> fields = EnumSet.of(OrderField.ID, OrderField.STATUS);
+        when(orderStore.findProjected(OrderFilter.none(), null, fields, 1))
+                .thenReturn(List.of(Map.of("id", 5L, "status", "PENDING")));
+
+        OrderProjectionPage result = orderService.getOrderProjections(OrderFilter.none(), null, 1, fields);
+
+        assertThat(result.orders()).containsExactly(Map.of("id", 5L, "status", "PENDING"));
+        assertThat(result.nextAfter()).isEqualTo(5L);
+    }
+
+    @Test
+    void shouldProjectCachedOrder_whenOrderProjectionRequested() {
+        when(orderStore.findById(1L)).thenReturn(Optional.of(sampleOrder()));
+        orderService.getOrderById(1L);
+
+        Map<String, Object> result = orderService.getOrderProjection(1L, EnumSet.of(OrderField.ID, OrderField.STATUS));
+
+        assertThat(result).containsExactly(Map.entry("id", 1L), Map.entry("status", "PENDING"));
+        verify(orderStore, never()).findProjectedById(any(), any());
+    }
+
+    @Test
+    void shouldThrowNotFoundException_whenProjectedOrderMissing() {
+        when(orderStore.findProjectedById(eq(99L), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.getOrderProjection(99L, EnumSet.of(OrderField.ID)))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("99");
     }
 
+    @Test
+    void shouldReadRevisionFromRepository_whenOrderNotCached() {
+        when(orderStore.findRevisionById(1L)).thenReturn(
+                Optional.of(new OrderRevision(4L, Instant.parse("2024-01-01T00:00:00Z"))));
+
+        OrderRevision revision = orderService.getOrderRevision(1L);
+
+        assertThat(revision.version()).isEqualTo(4L);
+        verify(orderStore, never()).findById(any());
+    }
+
+    @Test
+    void shouldReadRevisionFromCache_whenOrderCached() {
+        Order order = sampleOrder();
+        order.setVersion(2L);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(order));
+        orderService.getOrderById(1L);
+
+        OrderRevision revision = orderService.getOrderRevision(1L);
+
+        assertThat(revision).isEqualTo(new OrderRevision(2L, order.getUpdatedAt()));
+        verify(orderStore, never()).findRevisionById(any());
+    }
+
+    @Test
+    void shouldThrowNotFoundException_whenRevisionRequestedForMissingOrder() {
+        when(orderStore.findRevisionById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.getOrderRevision(99L))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void shouldServeFromCache_whenGetOrderByIdCalledRepeatedly() {
+        when(orderStore.findById(1L)).thenReturn(Optional.of(sampleOrder()));
+
+        orderService.getOrderById(1L);
+        OrderDto result = orderService.getOrderById(1L);
+
+        assertThat(result.id()).isEqualTo(1L);
+        verify(orderStore, times(1)).findById(1L);
+    }
+
+    @Test
+    void shouldServeUpdatedOrder_whenCachedOrderUpdated() {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        Order updated = sampleOrder();
+        updated.setProductName("Laptop Pro");
+        when(orderStore.findById(1L)).thenReturn(Optional.of(sampleOrder()));
+        when(orderStore.save(any(Order.class))).thenReturn(updated);
+        orderService.getOrderById(1L);
+
+        orderService.updateOrder(1L, input, null);
+
+        assertThat(orderService.getOrderById(1L).productName()).isEqualTo("Laptop Pro");
+        verify(orderStore, times(2)).findById(1L);
+    }
+
+    @Test
+    void shouldReloadOrder_whenCachedOrderDeleted() {
+        when(orderStore.findById(1L))
+                .thenReturn(Optional.of(sampleOrder()))
+                .thenReturn(Optional.of(sampleOrder()))
+                .thenReturn(Optional.empty());
+        when(orderStore.deleteByIdAndVersion(1L, null)).thenReturn(1);
+        orderService.getOrderById(1L);
+
+        orderService.deleteOrder(1L);
+
+        assertThatThrownBy(() -> orderService.getOrderById(1L))
+                .isInstanceOf(NotFoundException.class);
+    }
+
     @Test
     void shouldCreateOrder_whenCreateOrderCalledWithValidUserAndData() {
-        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null);
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
         when(userServiceClient.getUserById(1L)).thenReturn(sampleUserDto());
-        when(orderRepository.save(any(Order.class))).thenReturn(sampleOrder());
+        when(orderStore.save(any(Order.class))).thenReturn(sampleOrder());
 
         OrderDto result = orderService.createOrder(input);
 
         assertThat(result.productName()).isEqualTo("Laptop");
         verify(userServiceClient).getUserById(1L);
-        verify(orderRepository).save(any(Order.class));
+        verify(orderStore).save(any(Order.class));
+        verify(orderOutbox).recordCreated(List.of(result));
+        verify(transactionManager).commit(any());
+        assertThat(statistics.snapshot(null).total())
+                .isEqualTo(new OrderTotals(1, 2, new BigDecimal("1500.00")));
+        assertThat(changeLog.readAfter(0, 10)).extracting(OrderChange::type).containsExactly(OrderChange.Type.CREATED);
     }
 
     @Test
     void shouldThrowNotFoundException_whenCreateOrderCalledWithInvalidUserId() {
-        OrderDto input = new OrderDto(null, 99L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null);
+        OrderDto input = new OrderDto(null, 99L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, null);
         when(userServiceClient.getUserById(99L)).thenThrow(new NotFoundException("User not found with id: 99"));
 
         assertThatThrownBy(() -> orderService.createOrder(input))
@@ -105,9 +334,97 @@ class OrderServiceImplTest {
                 .hasMessageContaining("99");
     }
 
+    @Test
+    void shouldValidateEachUserOnce_whenCreateOrdersCalled() {
+        OrderDto first = new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        OrderDto second = new OrderDto(null, 1L, "Phone", 1, new BigDecimal("500.00"), "PENDING", null, null, null);
+        OrderDto third = new OrderDto(null, 1L, "Tablet", 1, new BigDecimal("700.00"), "PENDING", null, null, null);
+        when(userServiceClient.getUsersByIds(List.of(1L)))
+                .thenReturn(new UserLookupResult(Map.of(1L, sampleUserDto()), Set.of()));
+        when(orderStore.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderBatchItemResult> results = orderService.createOrders(Stream.of(first, second, third));
+
+        assertThat(results).extracting(OrderBatchItemResult::index).containsExactly(0, 1, 2);
+        assertThat(results).extracting(OrderBatchItemResult::status).containsOnly(201);
+        assertThat(results.get(2).order().productName()).isEqualTo("Tablet");
+        verify(userServiceClient, times(1)).getUsersByIds(anyList());
+        verify(orderStore, times(2)).saveAll(anyList());
+        verify(orderOutbox, times(2)).recordCreated(anyList());
+        assertThat(statistics.snapshot(1L).byUser().get(1L))
+                .isEqualTo(new OrderTotals(3, 3, new BigDecimal("2700.00")));
+    }
+
+    @Test
+    void shouldRejectItemsForUnknownUsers_whenCreateOrdersCalled() {
+        OrderDto known = new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        OrderDto unknown = new OrderDto(null, 99L, "Phone", 1, new BigDecimal("500.00"), "PENDING", null, null, null);
+        OrderDto missingUser = new OrderDto(null, null, "Tablet", 1, new BigDecimal("700.00"), "PENDING", null, null, null);
+        when(userServiceClient.getUsersByIds(List.of(1L, 99L)))
+                .thenReturn(new UserLookupResult(Map.of(1L, sampleUserDto()), Set.of(99L)));
+        when(orderStore.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderBatchItemResult> results = orderService.createOrders(Stream.of(known, unknown, missingUser));
+
+        assertThat(results).extracting(OrderBatchItemResult::status).containsExactly(201, 404, 400);
+        assertThat(results.get(1).message()).contains("99");
+    }
+
+    @Test
+    void shouldReportChunkFailure_whenCreateOrdersCannotPersist() {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(userServiceClient.getUsersByIds(List.of(1L)))
+                .thenReturn(new UserLookupResult(Map.of(1L, sampleUserDto()), Set.of()));
+        when(orderStore.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("constraint"));
+
+        List<OrderBatchItemResult> results = orderService.createOrders(Stream.of(input));
+
+        assertThat(results).singleElement()
+                .satisfies(result -> assertThat(result.status()).isEqualTo(500));
+        verify(orderOutbox, never()).recordCreated(anyList());
+        verify(transactionManager).rollback(any());
+        assertThat(statistics.snapshot(null).total().count()).isZero();
+    }
+
+    @Test
+    void shouldKeepCommittedResults_whenCreateOrdersInputBecomesUnreadable() {
+        OrderDto input = new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        when(userServiceClient.getUsersByIds(List.of(1L)))
+                .thenReturn(new UserLookupResult(Map.of(1L, sampleUserDto()), Set.of()));
+        when(orderStore.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        Stream<OrderDto> orders = Stream.of(0, 1, 2, 3).map(index -> {
+            if (index == 3) {
+                throw new IllegalArgumentException("malformed");
+            }
+            return input;
+        });
+
+        List<OrderBatchItemResult> results = orderService.createOrders(orders);
+
+        assertThat(results).extracting(OrderBatchItemResult::index).containsExactly(0, 1, 2, 3);
+        assertThat(results).extracting(OrderBatchItemResult::status).containsExactly(201, 201, 201, 400);
+        verify(orderStore, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void shouldRejectUncheckedItems_whenUserServiceUnavailableDuringCreateOrders() {
+        OrderDto first = new OrderDto(null, 1L, "Laptop", 1, new BigDecimal("1500.00"), "PENDING", null, null, null);
+        OrderDto second = new OrderDto(null, 2L, "Phone", 1, new BigDecimal("500.00"), "PENDING", null, null, null);
+        when(userServiceClient.getUsersByIds(List.of(1L)))
+                .thenReturn(new UserLookupResult(Map.of(1L, sampleUserDto()), Set.of()));
+        when(userServiceClient.getUsersByIds(List.of(2L)))
+                .thenThrow(new ServiceUnavailableException("service-alpha is unavailable"));
+        when(orderStore.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<OrderBatchItemResult> results = orderService.createOrders(Stream.of(first, first, second, first));
+
+        assertThat(results).extracting(OrderBatchItemResult::status).containsExactly(201, 201, 503, 201);
+        assertThat(results.get(2).message()).contains("2");
+    }
+
     @Test
     void shouldUpdateOrder_whenUpdateOrderCalledWithValidId() {
-        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null);
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
         Order existing = sampleOrder();
         Order updated = sampleOrder();
         updated.setProductName("Laptop Pro");
@@ -115,37 +432,164 @@ class OrderServiceImplTest {
         updated.setTotalPrice(new BigDecimal("2000.00"));
         updated.setStatus("CONFIRMED");
 
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(existing));
-        when(orderRepository.save(any(Order.class))).thenReturn(updated);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(existing));
+        when(orderStore.save(any(Order.class))).thenReturn(updated);
+        statistics.recordCreated(OrderServiceImpl.toDto(existing));
 
-        OrderDto result = orderService.updateOrder(1L, input);
+        OrderDto result = orderService.updateOrder(1L, input, null);
 
         assertThat(result.productName()).isEqualTo("Laptop Pro");
         assertThat(result.status()).isEqualTo("CONFIRMED");
+        assertThat(statistics.snapshot(null).byStatus())
+                .containsOnlyKeys("CONFIRMED")
+                .containsEntry("CONFIRMED", new OrderTotals(1, 3, new BigDecimal("2000.00")));
+    }
+
+    @Test
+    void shouldThrowPreconditionFailed_whenUpdateOrderCalledWithStaleVersion() {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        Order existing = sampleOrder();
+        existing.setVersion(2L);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(existing));
+
+        assertThatThrownBy(() -> orderService.updateOrder(1L, input, 1L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(orderStore, never()).save(any(Order.class));
+    }
+
+    @Test
+    void shouldThrowConflict_whenConcurrentUpdateWinsRace() {
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(sampleOrder()));
+        when(orderStore.save(any(Order.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Order.class, 1L));
+
+        assertThatThrownBy(() -> orderService.updateOrder(1L, input, null))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void shouldReturnPatchedOrder_whenPatchApplied() {
+        OrderDto changes = new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null);
+        Order before = sampleOrder();
+        before.setVersion(2L);
+        Order patched = sampleOrder();
+        patched.setStatus("SHIPPED");
+        patched.setVersion(3L);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(before)).thenReturn(Optional.of(patched));
+        when(orderStore.patch(eq(1L), eq(changes), eq(2L), any(Instant.class))).thenReturn(1);
+        statistics.recordCreated(OrderServiceImpl.toDto(before));
+
+        OrderDto result = orderService.patchOrder(1L, changes, 2L);
+
+        assertThat(result.status()).isEqualTo("SHIPPED");
+        assertThat(result.version()).isEqualTo(3L);
+        assertThat(changeLog.readAfter(0, 10)).extracting(OrderChange::order).containsExactly(result);
+        assertThat(statistics.snapshot(null).byStatus()).containsOnlyKeys("SHIPPED");
+    }
+
+    @Test
+    void shouldRetryPatch_whenConcurrentChangeLandsBetweenReadAndWrite() {
+        OrderDto changes = new OrderDto(null, null, null, 5, null, null, null, null, null);
+        Order first = sampleOrder();
+        first.setVersion(2L);
+        Order second = sampleOrder();
+        second.setVersion(3L);
+        Order patched = sampleOrder();
+        patched.setQuantity(5);
+        patched.setVersion(4L);
+        when(orderStore.findById(1L))
+                .thenReturn(Optional.of(first))
+                .thenReturn(Optional.of(second))
+                .thenReturn(Optional.of(patched));
+        when(orderStore.patch(eq(1L), eq(changes), eq(2L), any(Instant.class))).thenReturn(0);
+        when(orderStore.patch(eq(1L), eq(changes), eq(3L), any(Instant.class))).thenReturn(1);
+
+        OrderDto result = orderService.patchOrder(1L, changes, null);
+
+        assertThat(result.version()).isEqualTo(4L);
+        assertThat(statistics.snapshot(null).total()).isEqualTo(new OrderTotals(0, 3, BigDecimal.ZERO.setScale(2)));
+    }
+
+    @Test
+    void shouldSkipRead_whenPatchLeavesStatisticsUntouched() {
+        OrderDto changes = new OrderDto(null, null, "Laptop Pro", null, null, null, null, null, null);
+        Order patched = sampleOrder();
+        patched.setProductName("Laptop Pro");
+        when(orderStore.patch(eq(1L), eq(changes), isNull(), any(Instant.class))).thenReturn(1);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(patched));
+
+        OrderDto result = orderService.patchOrder(1L, changes, null);
+
+        assertThat(result.productName()).isEqualTo("Laptop Pro");
+        verify(orderStore, times(1)).findById(1L);
+        assertThat(statistics.snapshot(null).total().count()).isZero();
+    }
+
+    @Test
+    void shouldThrowPreconditionFailed_whenPatchVersionDoesNotMatch() {
+        OrderDto changes = new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null);
+        Order current = sampleOrder();
+        current.setVersion(3L);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(current));
+
+        assertThatThrownBy(() -> orderService.patchOrder(1L, changes, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+        verify(orderStore, never()).patch(any(), any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowPreconditionFailed_whenUntrackedPatchVersionDoesNotMatch() {
+        OrderDto changes = new OrderDto(null, null, "Laptop Pro", null, null, null, null, null, null);
+        when(orderStore.patch(eq(1L), eq(changes), eq(2L), any(Instant.class))).thenReturn(0);
+        when(orderStore.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> orderService.patchOrder(1L, changes, 2L))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
+    @Test
+    void shouldThrowNotFoundException_whenPatchOrderCalledWithInvalidId() {
+        OrderDto changes = new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null);
+        when(orderStore.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.patchOrder(99L, changes, null))
+                .isInstanceOf(NotFoundException.class);
     }
 
     @Test
     void shouldThrowNotFoundException_whenUpdateOrderCalledWithInvalidId() {
-        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null);
-        when(orderRepository.findById(99L)).thenReturn(Optional.empty());
+        OrderDto input = new OrderDto(null, 1L, "Laptop Pro", 3, new BigDecimal("2000.00"), "CONFIRMED", null, null, null);
+        when(orderStore.findById(99L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> orderService.updateOrder(99L, input))
+        assertThatThrownBy(() -> orderService.updateOrder(99L, input, null))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("99");
     }
 
     @Test
     void shouldDeleteOrder_whenDeleteOrderCalledWithValidId() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
+        Order existing = sampleOrder();
+        existing.setVersion(2L);
+        when(orderStore.findById(1L)).thenReturn(Optional.of(existing));
+        when(orderStore.deleteByIdAndVersion(1L, 2L)).thenReturn(1);
+
+        statistics.recordCreated(OrderServiceImpl.toDto(existing));
 
         orderService.deleteOrder(1L);
 
-        verify(orderRepository).deleteById(1L);
+        verify(orderStore).deleteByIdAndVersion(1L, 2L);
+        assertThat(statistics.snapshot(null).total()).isEqualTo(new OrderTotals(0, 0, BigDecimal.ZERO.setScale(2)));
+        assertThat(changeLog.readAfter(0, 10)).singleElement()
+                .satisfies(change -> {
+                    assertThat(change.type()).isEqualTo(OrderChange.Type.DELETED);
+                    assertThat(change.orderId()).isEqualTo(1L);
+                });
     }
 
     @Test
     void shouldThrowNotFoundException_whenDeleteOrderCalledWithInvalidId() {
-        when(orderRepository.existsById(99L)).thenReturn(false);
+        when(orderStore.findById(99L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> orderService.deleteOrder(99L))
                 .isInstanceOf(NotFoundException.class)
@@ -0,0 +1,140 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderAggregate;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderStats;
+import com.ecosystem.beta.dto.OrderTotals;
+import com.ecosystem.beta.repository.OrderStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatisticsTest {
+
+    @Mock
+    private OrderStore orderStore;
+
+    private OrderStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new OrderStatistics(orderStore);
+    }
+
+    private OrderDto order(Long userId, String status, int quantity, String totalPrice) {
+        return new OrderDto(null, userId, "Laptop", quantity, new BigDecimal(totalPrice), status, null, null, null);
+    }
+
+    @Test
+    void shouldSeedTotals_whenRebuiltFromRepository() {
+        when(orderStore.aggregateByUserIdAndStatus()).thenReturn(List.of(
+                new OrderAggregate(1L, "PENDING", 2L, 3L, new BigDecimal("300.00")),
+                new OrderAggregate(2L, "PENDING", 1L, 1L, new BigDecimal("50.00")),
+                new OrderAggregate(null, null, 1L, null, null)));
+
+        statistics.afterSingletonsInstantiated();
+
+        OrderStats stats = statistics.snapshot(null);
+        assertThat(stats.total()).isEqualTo(new OrderTotals(4, 4, new BigDecimal("350.00")));
+        assertThat(stats.byStatus()).containsOnlyKeys("PENDING")
+                .containsEntry("PENDING", new OrderTotals(3, 4, new BigDecimal("350.00")));
+        assertThat(stats.byUser()).isEmpty();
+        assertThat(statistics.snapshot(1L).byUser()).containsEntry(1L, new OrderTotals(2, 3, new BigDecimal("300.00")));
+        assertThat(statistics.trackedUsers()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMoveTotalsBetweenBuckets_whenOrderUpdated() {
+        OrderDto pending = order(1L, "PENDING", 2, "200.00");
+        statistics.recordCreated(pending);
+
+        statistics.recordUpdated(pending, order(2L, "SHIPPED", 3, "250.00"));
+
+        OrderStats stats = statistics.snapshot(null);
+        assertThat(stats.total()).isEqualTo(new OrderTotals(1, 3, new BigDecimal("250.00")));
+        assertThat(stats.byStatus()).containsOnlyKeys("SHIPPED");
+        assertThat(statistics.snapshot(1L).byUser()).isEmpty();
+        assertThat(statistics.snapshot(2L).byUser())
+                .containsEntry(2L, new OrderTotals(1, 3, new BigDecimal("250.00")));
+    }
+
+    @Test
+    void shouldDropEmptyBuckets_whenLastOrderDeleted() {
+        OrderDto pending = order(1L, "PENDING", 2, "200.00");
+        statistics.recordCreated(pending);
+        statistics.recordCreated(order(2L, "SHIPPED", 1, "10.00"));
+
+        statistics.recordDeleted(pending);
+
+        OrderStats stats = statistics.snapshot(null);
+        assertThat(stats.total()).isEqualTo(new OrderTotals(1, 1, new BigDecimal("10.00")));
+        assertThat(stats.byStatus()).containsOnlyKeys("SHIPPED");
+        assertThat(statistics.trackedUsers()).isEqualTo(1);
+        assertThat(statistics.snapshot(1L).byUser()).isEmpty();
+    }
+
+    @Test
+    void shouldOmitPerUserTotals_whenSnapshotNotFilteredByUserId() {
+        for (long userId = 1; userId <= 1_000; userId++) {
+            statistics.recordCreated(order(userId, "PENDING", 1, "1.00"));
+        }
+
+        OrderStats stats = statistics.snapshot(null);
+
+        assertThat(stats.byUser()).isEmpty();
+        assertThat(stats.total().count()).isEqualTo(1_000);
+        assertThat(stats.byStatus()).containsOnlyKeys("PENDING");
+    }
+
+    @Test
+    void shouldReturnSingleUser_whenSnapshotFilteredByUserId() {
+        statistics.recordCreated(order(1L, "PENDING", 2, "200.00"));
+        statistics.recordCreated(order(2L, "PENDING", 1, "10.00"));
+
+        assertThat(statistics.snapshot(2L).byUser()).containsOnlyKeys(2L);
+        assertThat(statistics.snapshot(3L).byUser()).isEmpty();
+    }
+
+    @Test
+    void shouldNotLoseUpdates_whenOrdersRecordedConcurrently() throws Exception {
+        int threads = 8;
+        int perThread = 5_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            for (int t = 0; t < threads; t++) {
+                long userId = t % 2 + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        statistics.recordCreated(order(userId, "PENDING", 1, "0.01"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        OrderStats stats = statistics.snapshot(null);
+        assertThat(stats.total()).isEqualTo(new OrderTotals(threads * perThread, threads * perThread,
+                new BigDecimal("400.00")));
+        assertThat(statistics.snapshot(1L).byUser().get(1L).revenue()).isEqualByComparingTo("200.00");
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderEvent;
+import com.ecosystem.beta.model.OutboxEvent;
+import com.ecosystem.beta.repository.OutboxEventStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:10Z");
+
+    @Mock
+    private OutboxEventStore outboxEventStore;
+
+    private InMemoryOrderEventSink sink;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        sink = new InMemoryOrderEventSink();
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventStore, sink, false, Duration.ofMillis(10), 2, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldPublishAndDeleteBatch_whenOutboxHasEvents() {
+        when(outboxEventStore.findAllByOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(event(1L, "2024-01-01T00:00:00Z"), event(2L, "2024-01-01T00:00:01Z")));
+
+        int delivered = relay.relayBatch();
+
+        assertThat(delivered).isEqualTo(2);
+        assertThat(sink.events()).extracting(OrderEvent::id).containsExactly(1L, 2L);
+        assertThat(sink.events().get(0).payload()).isEqualTo("{\"id\":1}");
+        verify(outboxEventStore).deleteAllByIdInBatch(List.of(1L, 2L));
+        assertThat(meterRegistry.counter("orders.outbox.delivered").count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepEventsForRetry_whenSinkFails() {
+        when(outboxEventStore.findAllByOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(event(1L, "2024-01-01T00:00:00Z")));
+        sink.failWith(new IllegalStateException("broker down"));
+
+        int delivered = relay.relayBatch();
+
+        assertThat(delivered).isZero();
+        verify(outboxEventStore, never()).deleteAllByIdInBatch(anyList());
+        assertThat(meterRegistry.counter("orders.outbox.failures").count()).isEqualTo(1);
+        assertThat(lagSeconds()).isEqualTo(10.0);
+    }
+
+    @Test
+    void shouldReportLagOfOldestPendingEvent_whenRelayFallsBehind() {
+        when(outboxEventStore.findAllByOrderByIdAsc(Limit.of(2)))
+                .thenReturn(List.of(event(1L, "2024-01-01T00:00:04Z"), event(2L, "2024-01-01T00:00:05Z")))
+                .thenReturn(List.of());
+
+        relay.relayBatch();
+        assertThat(lagSeconds()).isEqualTo(6.0);
+
+        relay.relayBatch();
+        assertThat(lagSeconds()).isZero();
+    }
+
+    private double lagSeconds() {
+        return meterRegistry.get("orders.outbox.lag").timeGauge().value(TimeUnit.SECONDS);
+    }
+
+    private static OutboxEvent event(Long id, String createdAt) {
+        OutboxEvent event = new OutboxEvent(OrderOutbox.ORDER_CREATED, id, "{\"id\":" + id + "}",
+                Instant.parse(createdAt));
+        event.setId(id);
+        return event;
+    }
+}
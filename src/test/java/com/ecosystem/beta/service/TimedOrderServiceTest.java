@@ -0,0 +1,67 @@
+package com.ecosystem.beta.service;
+
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.common.exception.NotFoundException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TimedOrderServiceTest {
+
+    @Mock
+    private OrderService delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TimedOrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderService = new TimedOrderService(delegate, meterRegistry);
+    }
+
+    @Test
+    void shouldRecordTimerPerMethod_whenDelegateReturns() {
+        OrderDto order = new OrderDto(1L, 1L, "Laptop", 2, new BigDecimal("1500.00"), "PENDING", null, null, 0L);
+        when(delegate.createOrder(order)).thenReturn(order);
+
+        OrderDto result = orderService.createOrder(order);
+
+        assertThat(result).isSameAs(order);
+        assertThat(timer("createOrder").count()).isEqualTo(1);
+        assertThat(timer("getOrderById").count()).isZero();
+    }
+
+    @Test
+    void shouldRecordTimer_whenDelegateThrows() {
+        when(delegate.getOrderById(99L)).thenThrow(new NotFoundException("Order not found with id: 99"));
+
+        assertThatThrownBy(() -> orderService.getOrderById(99L)).isInstanceOf(NotFoundException.class);
+
+        assertThat(timer("getOrderById").count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordTimer_whenVoidMethodCalled() {
+        orderService.deleteOrder(1L);
+
+        verify(delegate).deleteOrder(1L);
+        assertThat(timer("deleteOrder").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method) {
+        return meterRegistry.get(TimedOrderService.METRIC_NAME).tag("method", method).timer();
+    }
+}
@@ -0,0 +1,46 @@
+package com.ecosystem.beta.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderShardRouterTest {
+
+    @Test
+    void shouldRecoverShardFromId_whenIdComposedFromLocalSequence() {
+        OrderShardRouter router = new OrderShardRouter(4);
+
+        for (int shard = 0; shard < 4; shard++) {
+            for (long local = 1; local <= 100; local++) {
+                assertThat(router.shardOfId(OrderShardRouter.compose(local, shard, 4))).isEqualTo(shard);
+            }
+        }
+    }
+
+    @Test
+    void shouldSpreadUsersEvenly_whenUserIdsAreSequential() {
+        OrderShardRouter router = new OrderShardRouter(4);
+        long[] users = new long[4];
+
+        LongStream.rangeClosed(1, 10_000).forEach(userId -> users[router.shardOf(userId)]++);
+
+        assertThat(LongStream.of(users)).allMatch(count -> count > 2_300 && count < 2_700);
+    }
+
+    @Test
+    void shouldKeepIdsUnchanged_whenSingleShard() {
+        OrderShardRouter router = new OrderShardRouter(1);
+
+        assertThat(OrderShardRouter.compose(42, 0, 1)).isEqualTo(42);
+        assertThat(router.shardOf(7L)).isZero();
+        assertThat(router.shardOf(null)).isZero();
+    }
+
+    @Test
+    void shouldRejectConfiguration_whenNoShards() {
+        assertThatThrownBy(() -> new OrderShardRouter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,277 @@
+package com.ecosystem.beta.sharding;
+
+import com.ecosystem.beta.client.UserLookupResult;
+import com.ecosystem.beta.client.UserServiceClient;
+import com.ecosystem.beta.dto.OrderBatchItemResult;
+import com.ecosystem.beta.dto.OrderDto;
+import com.ecosystem.beta.dto.OrderFilter;
+import com.ecosystem.beta.dto.OrderPage;
+import com.ecosystem.beta.model.Order;
+import com.ecosystem.beta.repository.OrderRepository;
+import com.ecosystem.beta.repository.OrderStore;
+import com.ecosystem.beta.service.OrderService;
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.UnprocessableEntityException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "orders.sharding.enabled=true",
+        "orders.sharding.urls=jdbc:h2:mem:shard-test-0;DB_CLOSE_DELAY=-1,jdbc:h2:mem:shard-test-1;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:shard-test-2;DB_CLOSE_DELAY=-1",
+        "orders.outbox.relay.enabled=false",
+        "orders.cache.enabled=false"
+})
+class ShardedOrderStorageTest {
+
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "SHIPPED"};
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStore orderStore;
+
+    @Autowired
+    private ShardRoutingDataSource shards;
+
+    @Autowired
+    private OrderShardRouter router;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < shards.shardCount(); shard++) {
+            JdbcTemplate jdbc = new JdbcTemplate(shards.shard(shard));
+            jdbc.update("delete from order_outbox");
+            jdbc.update("delete from orders");
+        }
+        when(userServiceClient.getUsersByIds(any())).thenAnswer(invocation -> {
+            Collection<Long> userIds = invocation.getArgument(0);
+            return new UserLookupResult(userIds.stream().collect(Collectors.toMap(
+                    Function.identity(), ShardedOrderStorageTest::user)), Set.of());
+        });
+    }
+
+    @Test
+    void shouldStoreOrderAndOutboxEventOnUserShard_whenOrderCreated() {
+        for (long userId = 1; userId <= 12; userId++) {
+            OrderDto created = orderService.createOrder(order(userId, "PENDING"));
+
+            int shard = router.shardOf(userId);
+            assertThat(router.shardOfId(created.id())).isEqualTo(shard);
+            for (int other = 0; other < shards.shardCount(); other++) {
+                JdbcTemplate jdbc = new JdbcTemplate(shards.shard(other));
+                int expected = other == shard ? 1 : 0;
+                assertThat(jdbc.queryForObject("select count(*) from orders where id = ?", Integer.class,
+                        created.id())).isEqualTo(expected);
+                assertThat(jdbc.queryForObject("select count(*) from order_outbox where order_id = ?",
+                        Integer.class, created.id())).isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void shouldGenerateGloballyUniqueIds_whenBatchSpansShards() {
+        List<OrderBatchItemResult> results = orderService.createOrders(LongStream.rangeClosed(1, 300)
+                .mapToObj(userId -> order(userId, STATUSES[(int) (userId % STATUSES.length)])));
+
+        List<Long> ids = results.stream().map(result -> result.order().id()).toList();
+        assertThat(results).allMatch(result -> result.status() == 201);
+        assertThat(new HashSet<>(ids)).hasSize(300);
+        assertThat(IntStream.range(0, shards.shardCount()).map(this::countOn)).allMatch(count -> count > 50);
+        assertThat(results).allMatch(result ->
+                router.shardOfId(result.order().id()) == router.shardOf(result.order().userId()));
+        assertThat(IntStream.range(0, shards.shardCount()).map(shard -> countOn(shard, "order_outbox")).sum())
+                .isEqualTo(300);
+    }
+
+    @Test
+    void shouldMergeShardsInIdOrder_whenPagingThroughOrders() {
+        List<Long> expected = createAcrossShards(100);
+
+        assertThat(pageThrough(OrderFilter.none(), 7)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldMergeFilteredShardsInIdOrder_whenPagingByStatus() {
+        createAcrossShards(90);
+        List<Long> expected = IntStream.range(0, shards.shardCount())
+                .mapToObj(shard -> new JdbcTemplate(shards.shard(shard))
+                        .queryForList("select id from orders where status = 'SHIPPED'", Long.class))
+                .flatMap(List::stream)
+                .sorted()
+                .toList();
+
+        List<Long> paged = pageThrough(new OrderFilter(null, "SHIPPED", null, null), 4);
+
+        assertThat(expected).hasSize(30);
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldStreamEveryShardInIdOrder_whenStreamingOrders() {
+        List<Long> expected = createAcrossShards(ShardedRepositoryInterceptor.STREAM_PAGE_SIZE + 120);
+        List<Long> streamed = new ArrayList<>();
+
+        orderService.streamOrders(OrderFilter.none(), null, order -> streamed.add(order.id()));
+
+        assertThat(streamed).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldRouteReadsAndWritesById_whenOrderLivesOnAnotherShard() {
+        OrderDto created = orderService.createOrder(order(7L, "PENDING"));
+
+        OrderDto patched = orderService.patchOrder(created.id(),
+                new OrderDto(null, null, null, null, null, "SHIPPED", null, null, null), created.version());
+
+        assertThat(orderService.getOrderById(created.id()).status()).isEqualTo("SHIPPED");
+        assertThat(patched.version()).isEqualTo(created.version() + 1);
+        orderService.deleteOrder(created.id());
+        assertThat(orderStore.existsById(created.id())).isFalse();
+    }
+
+    @Test
+    void shouldQueryOnlyOwningShard_whenFilterHasUserId() {
+        createAcrossShards(60);
+        int owner = router.shardOf(7L);
+        int other = (owner + 1) % shards.shardCount();
+        long strayId = OrderShardRouter.compose(1_000_000L, other, shards.shardCount());
+        new JdbcTemplate(shards.shard(other)).update(
+                "insert into orders (id, user_id, status) values (?, 7, 'PENDING')", strayId);
+        List<Long> expected = new JdbcTemplate(shards.shard(owner))
+                .queryForList("select id from orders where user_id = 7 order by id", Long.class);
+
+        List<Long> paged = pageThrough(new OrderFilter(7L, null, null, null), 1);
+
+        assertThat(expected).isNotEmpty();
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldWriteEachShardGroupSeparately_whenOrdersSpanShards() {
+        List<Order> orders = LongStream.rangeClosed(1, 12).mapToObj(ShardedOrderStorageTest::entity).toList();
+        List<List<Order>> groups = new ArrayList<>();
+
+        orderStore.writeInGroups(orders, group -> groups.add(transactionTemplate.execute(status ->
+                orderStore.saveAll(group))));
+
+        assertThat(groups).hasSize(shards.shardCount());
+        assertThat(groups).allSatisfy(group -> assertThat(group).extracting(order -> router.shardOfId(order.getId()))
+                .containsOnly(router.shardOf(group.get(0).getUserId())));
+        assertThat(IntStream.range(0, shards.shardCount()).map(this::countOn).sum()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldRejectUpdate_whenNewUserLivesOnAnotherShard() {
+        OrderDto created = orderService.createOrder(order(7L, "PENDING"));
+        long otherUser = LongStream.iterate(8L, userId -> userId + 1)
+                .filter(userId -> router.shardOf(userId) != router.shardOf(7L))
+                .findFirst()
+                .orElseThrow();
+
+        assertThatThrownBy(() -> orderService.updateOrder(created.id(), order(otherUser, "PENDING"), null))
+                .isInstanceOf(UnprocessableEntityException.class)
+                .hasMessageContaining("another shard");
+        assertThat(orderService.getOrderById(created.id()).userId()).isEqualTo(7L);
+    }
+
+    @Test
+    void shouldRejectTransaction_whenWritesSpanShards() {
+        Map<Integer, Order> byShard = new TreeMap<>();
+        for (long userId = 1; byShard.size() < 2; userId++) {
+            byShard.putIfAbsent(router.shardOf(userId), entity(userId));
+        }
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status ->
+                orderStore.saveAll(byShard.values())))
+                .isInstanceOf(InvalidDataAccessApiUsageException.class)
+                .hasMessageContaining("cannot be written in one transaction");
+        assertThat(IntStream.range(0, shards.shardCount()).map(this::countOn).sum()).isZero();
+    }
+
+    @Test
+    void shouldRejectProxy_whenInterfaceHasOperationsShardingCannotServe() {
+        assertThatThrownBy(() -> new ShardedRepositoryInterceptor(OrderRepository.class, orderStore, router,
+                shards.executor()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not supported across order shards");
+    }
+
+    private List<Long> createAcrossShards(int count) {
+        return orderService.createOrders(IntStream.range(0, count)
+                        .mapToObj(i -> order(1L + i % 37, STATUSES[i % STATUSES.length])))
+                .stream()
+                .map(result -> result.order().id())
+                .sorted()
+                .toList();
+    }
+
+    private List<Long> pageThrough(OrderFilter filter, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        Long after = null;
+        do {
+            OrderPage page = orderService.getOrders(filter, after, pageSize);
+            page.orders().forEach(order -> ids.add(order.id()));
+            after = page.nextAfter();
+        } while (after != null);
+        return ids;
+    }
+
+    private int countOn(int shard) {
+        return countOn(shard, "orders");
+    }
+
+    private int countOn(int shard, String table) {
+        return new JdbcTemplate(shards.shard(shard)).queryForObject("select count(*) from " + table, Integer.class);
+    }
+
+    private static OrderDto order(Long userId, String status) {
+        return new OrderDto(null, userId, "Laptop", 1, new BigDecimal("1500.00"), status, null, null, null);
+    }
+
+    private static Order entity(Long userId) {
+        Order order = new Order();
+        order.setUserId(userId);
+        order.setProductName("Laptop");
+        order.setQuantity(1);
+        order.setTotalPrice(new BigDecimal("1500.00"));
+        order.setStatus("PENDING");
+        return order;
+    }
+
+    private static UserDto user(Long userId) {
+        return new UserDto(userId, "user" + userId, "user" + userId + "@example.com", "User", "Number" + userId,
+                null);
+    }
+}